@@ -2,55 +2,193 @@ package com.thecoders.cartunnbackend.iam.application.internal.commandservices;
 
 import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingService;
 import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.tokens.TokenService;
+import com.thecoders.cartunnbackend.iam.application.internal.registries.RoleRegistry;
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.entities.RefreshToken;
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.ProvisionedUsers;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.ProvisionUsersCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.RefreshTokenCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignInCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.SignOutCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignUpCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
 import com.thecoders.cartunnbackend.iam.domain.services.UserCommandService;
-import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RefreshTokenRepository;
 import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.apache.commons.lang3.time.DateUtils;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class UserCommandServiceImpl implements UserCommandService {
     private final UserRepository userRepository;
     private final HashingService hashingService;
     private final TokenService tokenService;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int refreshExpirationDays;
+    private volatile String unknownUserPasswordHash;
 
-    public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService, TokenService tokenService, RoleRepository roleRepository) {
+    public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService, TokenService tokenService,
+                                  RoleRegistry roleRegistry, RefreshTokenRepository refreshTokenRepository,
+                                  @Value("${authorization.jwt.refresh.expiration.days}") int refreshExpirationDays) {
         this.userRepository = userRepository;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationDays = refreshExpirationDays;
     }
 
+    /**
+     * A username taken between the check and the insert is reported as the same conflict as one taken before.
+     */
     @Override
     public Optional<User> handle(SignUpCommand command) {
         if (userRepository.existsByUsername(command.username()))
-            throw new RuntimeException("Username already exists");
-        var roles = command.roles();
-        if (roles.isEmpty()) {
-            var role = roleRepository.findByName(Roles.ROLE_CLIENT);
-            roles.add(role.get());
-        }
-        roles = command.roles().stream().map(role -> roleRepository.findByName(role.getName()).orElseThrow(() -> new RuntimeException("Role not found"))).toList();
+            throw new ResourceConflictException("Username already exists", null);
+        var roles = resolveRoles(command.roles());
         var user = new User(command.username(), hashingService.encode(command.password()), roles);
-        userRepository.save(user);
-        return userRepository.findByUsername(command.username());
+        try {
+            return Optional.of(userRepository.saveAndFlush(user));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, User.USERNAME_UNIQUE_CONSTRAINT, "Username already exists",
+                    "Error while signing up user");
+        }
+    }
+
+    /**
+     * Takes usernames already taken out with a single query, hashes the remaining passwords in parallel
+     * and inserts the new users in JDBC batches. Hashing happens before the insert transaction opens.
+     * Usernames are compared ignoring case, as the username column is.
+     * A username taken between the check and the insert rolls the whole batch back as a conflict.
+     */
+    @Override
+    public ProvisionedUsers handle(ProvisionUsersCommand command) {
+        var usernames = command.users().stream().map(SignUpCommand::username).toList();
+        var existingUsernames = userRepository.findExistingUsernames(usernames).stream()
+                .map(UserCommandServiceImpl::normalizedUsername)
+                .collect(Collectors.toSet());
+        var signUps = command.users().stream().filter(signUp -> !existingUsernames.contains(normalizedUsername(signUp.username()))).toList();
+        var skippedUsernames = usernames.stream().filter(username -> existingUsernames.contains(normalizedUsername(username))).toList();
+        if (signUps.isEmpty()) return new ProvisionedUsers(List.of(), skippedUsernames);
+
+        var roles = signUps.stream().map(signUp -> resolveRoles(signUp.roles())).toList();
+        var passwordHashes = hashingService.encodeAll(signUps.stream().map(SignUpCommand::password).toList());
+        var users = new ArrayList<User>(signUps.size());
+        for (int i = 0; i < signUps.size(); i++)
+            users.add(new User(signUps.get(i).username(), passwordHashes.get(i), roles.get(i)));
+        List<Long> ids;
+        try {
+            ids = userRepository.insertAll(users);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, User.USERNAME_UNIQUE_CONSTRAINT, "Username already exists",
+                    "Error while provisioning users");
+        }
+
+        var created = new ArrayList<UserSummary>(users.size());
+        for (int i = 0; i < users.size(); i++)
+            created.add(new UserSummary(ids.get(i), users.get(i).getUsername(), roles.get(i).stream().map(Role::getName).toList()));
+        return new ProvisionedUsers(created, skippedUsernames);
     }
 
+    /**
+     * Passwords hashed with an outdated algorithm or cost are rehashed with the current one once they match.
+     */
     @Override
-    public Optional<ImmutablePair<User, String>> handle(SignInCommand command) {
+    public Optional<ImmutableTriple<User, String, String>> handle(SignInCommand command) {
         var user = userRepository.findByUsername(command.username());
-        if (user.isEmpty()) throw new RuntimeException("User not found");
+        if (user.isEmpty()) {
+            // Spend the same hashing time as for a wrong password, so unknown usernames cannot be told apart
+            hashingService.matches(command.password(), unknownUserPasswordHash());
+            throw new RuntimeException("User not found");
+        }
         if (!hashingService.matches(command.password(), user.get().getPassword()))
             throw new RuntimeException("Invalid password");
         var currentUser = user.get();
-        var token = tokenService.generateToken(currentUser.getUsername());
-        return Optional.of(ImmutablePair.of(currentUser, token));
+        if (hashingService.needsRehash(currentUser.getPassword())) {
+            currentUser.updatePassword(hashingService.encode(command.password()));
+            userRepository.save(currentUser);
+        }
+        var token = tokenService.generateToken(currentUser);
+        var refreshToken = issueRefreshToken(currentUser, UUID.randomUUID().toString());
+        return Optional.of(ImmutableTriple.of(currentUser, token, refreshToken));
+    }
+
+    /**
+     * Rotates the refresh token without hashing any password.
+     * A token that was already rotated is being replayed, so its whole family is revoked and the user has to sign in again.
+     */
+    @Override
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Optional<ImmutableTriple<User, String, String>> handle(RefreshTokenCommand command) {
+        if (command.refreshToken() == null || command.refreshToken().isBlank())
+            throw new IllegalArgumentException("Invalid refresh token");
+        var refreshToken = refreshTokenRepository.findByTokenHash(tokenService.hashRefreshToken(command.refreshToken()))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+        if (refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new IllegalArgumentException("Refresh token already used");
+        }
+        if (refreshToken.isExpired())
+            throw new IllegalArgumentException("Expired refresh token");
+        var user = refreshToken.getUser();
+        var token = tokenService.generateToken(user);
+        var rotatedRefreshToken = issueRefreshToken(user, refreshToken.getFamilyId());
+        return Optional.of(ImmutableTriple.of(user, token, rotatedRefreshToken));
+    }
+
+    @Override
+    @Transactional
+    public void handle(SignOutCommand command) {
+        if (command.token() == null || !tokenService.revokeToken(command.token()))
+            throw new IllegalArgumentException("Invalid token");
+        refreshTokenRepository.revokeAllByUsername(tokenService.getUsernameFromToken(command.token()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${authorization.jwt.refresh.purge-interval:PT1H}")
+    public void purgeExpiredRefreshTokens() {
+        refreshTokenRepository.deleteExpired(new Date());
+    }
+
+    private String issueRefreshToken(User user, String familyId) {
+        var refreshToken = tokenService.generateRefreshToken();
+        var expiresAt = DateUtils.addDays(new Date(), refreshExpirationDays);
+        refreshTokenRepository.save(new RefreshToken(user, tokenService.hashRefreshToken(refreshToken), familyId, expiresAt));
+        return refreshToken;
+    }
+
+    private List<Role> resolveRoles(List<Role> requestedRoles) {
+        var roleNames = requestedRoles == null || requestedRoles.isEmpty()
+                ? List.of(Roles.ROLE_CLIENT)
+                : requestedRoles.stream().map(Role::getName).distinct().toList();
+        return roleNames.stream()
+                .map(roleName -> roleRegistry.find(roleName).orElseThrow(() -> new RuntimeException("Role not found")))
+                .toList();
+    }
+
+    private static String normalizedUsername(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private String unknownUserPasswordHash() {
+        var passwordHash = unknownUserPasswordHash;
+        if (passwordHash == null) {
+            passwordHash = hashingService.encode(UUID.randomUUID().toString());
+            unknownUserPasswordHash = passwordHash;
+        }
+        return passwordHash;
     }
 }
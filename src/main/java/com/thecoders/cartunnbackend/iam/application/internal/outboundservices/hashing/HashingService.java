@@ -1,8 +1,20 @@
 package com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing;
 
+import java.util.List;
 
 public interface HashingService {
     String encode(CharSequence rawPassword);
 
+    /**
+     * Hashes the passwords in parallel.
+     * @return the hashes in the order of the passwords
+     */
+    List<String> encodeAll(List<? extends CharSequence> rawPasswords);
+
     boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    /**
+     * @return true when the password was hashed with another algorithm or a lower cost than the current one
+     */
+    boolean needsRehash(String encodedPassword);
 }
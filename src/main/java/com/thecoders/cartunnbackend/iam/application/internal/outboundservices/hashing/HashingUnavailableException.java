@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing;
+
+/**
+ * Thrown when a password cannot be hashed or verified right now because the hashing capacity is exhausted.
+ * The request can be retried later.
+ */
+public class HashingUnavailableException extends RuntimeException {
+    public HashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,26 @@
 package com.thecoders.cartunnbackend.iam.application.internal.outboundservices.tokens;
 
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+
 public interface TokenService {
     String generateToken(String username);
 
+    String generateToken(User user);
+
     boolean validateToken(String token);
 
     String getUsernameFromToken(String token);
+
+    /**
+     * Rejects a valid token on later requests until it expires.
+     * @return false when the token is not valid
+     */
+    boolean revokeToken(String token);
+
+    /**
+     * @return a random opaque token to be handed to the client once and stored only as its hash
+     */
+    String generateRefreshToken();
+
+    String hashRefreshToken(String refreshToken);
 }
@@ -1,10 +1,10 @@
 package com.thecoders.cartunnbackend.iam.application.internal.queryservices;
 
+import com.thecoders.cartunnbackend.iam.application.internal.registries.RoleRegistry;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllRolesQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetRoleByNameQuery;
 import com.thecoders.cartunnbackend.iam.domain.services.RoleQueryService;
-import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,19 +12,19 @@ import java.util.Optional;
 
 @Service
 public class RoleQueryServiceImpl implements RoleQueryService {
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
-    public RoleQueryServiceImpl(RoleRepository roleRepository) {
-        this.roleRepository = roleRepository;
+    public RoleQueryServiceImpl(RoleRegistry roleRegistry) {
+        this.roleRegistry = roleRegistry;
     }
 
     @Override
     public List<Role> handle(GetAllRolesQuery query) {
-        return roleRepository.findAll();
+        return roleRegistry.findAll();
     }
 
     @Override
     public Optional<Role> handle(GetRoleByNameQuery query) {
-        return roleRepository.findByName(query.name());
+        return roleRegistry.find(query.name());
     }
 }
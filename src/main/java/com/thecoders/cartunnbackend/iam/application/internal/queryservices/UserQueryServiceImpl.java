@@ -1,15 +1,22 @@
 package com.thecoders.cartunnbackend.iam.application.internal.queryservices;
 
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllUsersQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserPage;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserRoleAssignment;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByIdQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByUsernameQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByIdsQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByUsernamesQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUsersPageQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
 import com.thecoders.cartunnbackend.iam.domain.services.UserQueryService;
 import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class UserQueryServiceImpl implements UserQueryService {
@@ -19,9 +26,29 @@ public class UserQueryServiceImpl implements UserQueryService {
         this.userRepository = userRepository;
     }
 
+    /**
+     * Two queries per page: one for ids and usernames, one for the roles of those ids.
+     */
     @Override
-    public List<User> handle(GetAllUsersQuery query) {
-        return userRepository.findAll();
+    public UserPage handle(GetUsersPageQuery query) {
+        // One extra row tells whether there is a next page without issuing a count query
+        var afterId = query.afterId() == null ? 0L : query.afterId();
+        var limit = Limit.of(query.limit() + 1);
+        var rows = query.usernamePrefix() == null
+                ? userRepository.findSummaries(query.role(), afterId, limit)
+                : userRepository.findSummariesByUsernameLike(toLikePrefixPattern(query.usernamePrefix()), query.role(),
+                        afterId, limit);
+        var hasNext = rows.size() > query.limit();
+        var summaries = hasNext ? rows.subList(0, query.limit()) : rows;
+        if (summaries.isEmpty()) return new UserPage(List.of(), null);
+        var userIds = summaries.stream().map(UserSummary::id).toList();
+        Map<Long, List<Roles>> rolesByUserId = userRepository.findRoleAssignmentsByUserIds(userIds).stream()
+                .collect(Collectors.groupingBy(UserRoleAssignment::userId,
+                        Collectors.mapping(UserRoleAssignment::role, Collectors.toList())));
+        var items = summaries.stream()
+                .map(summary -> summary.withRoles(rolesByUserId.getOrDefault(summary.id(), List.of())))
+                .toList();
+        return new UserPage(items, hasNext ? items.get(items.size() - 1).id() : null);
     }
 
     @Override
@@ -33,4 +60,24 @@ public class UserQueryServiceImpl implements UserQueryService {
     public Optional<User> handle(GetUserByUsernameQuery query) {
         return userRepository.findByUsername(query.username());
     }
+
+    /**
+     * Ids and usernames only, without roles. Unknown ids are left out.
+     */
+    @Override
+    public List<UserSummary> handle(GetUserSummariesByIdsQuery query) {
+        return userRepository.findSummariesByIds(query.userIds());
+    }
+
+    /**
+     * Ids and usernames only, without roles. Unknown usernames are left out.
+     */
+    @Override
+    public List<UserSummary> handle(GetUserSummariesByUsernamesQuery query) {
+        return userRepository.findSummariesByUsernames(query.usernames());
+    }
+
+    private static String toLikePrefixPattern(String prefix) {
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
 }
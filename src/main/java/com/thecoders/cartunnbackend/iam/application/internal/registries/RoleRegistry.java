@@ -0,0 +1,46 @@
+package com.thecoders.cartunnbackend.iam.application.internal.registries;
+
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the seeded roles, indexed by name.
+ * Roles come from a fixed enum and never change after seeding, so lookups are served from memory;
+ * the snapshot is reloaded by the seeding command and, if a lookup arrives first, loaded on demand.
+ */
+@Component
+public class RoleRegistry {
+    private final RoleRepository roleRepository;
+    private volatile Map<Roles, Role> rolesByName;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    public void reload() {
+        var loadedRoles = new EnumMap<Roles, Role>(Roles.class);
+        roleRepository.findAll().forEach(role -> loadedRoles.put(role.getName(), role));
+        rolesByName = Collections.unmodifiableMap(loadedRoles);
+    }
+
+    public Optional<Role> find(Roles name) {
+        return Optional.ofNullable(rolesByName().get(name));
+    }
+
+    public List<Role> findAll() {
+        return List.copyOf(rolesByName().values());
+    }
+
+    private Map<Roles, Role> rolesByName() {
+        var snapshot = rolesByName;
+        if (snapshot == null || snapshot.size() < Roles.values().length) {
+            reload();
+            snapshot = rolesByName;
+        }
+        return snapshot;
+    }
+}
@@ -1,6 +1,7 @@
 package com.thecoders.cartunnbackend.iam.domain.model.aggregates;
 
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.events.UserAuthoritiesChangedEvent;
 import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -12,12 +13,13 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = User.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"))
 public class User extends AuditableAbstractAggregateRoot<User> {
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_users_username";
 
     @Getter
     @NotBlank
     @Size(max = 50)
-    @Column(unique = true)
     private String username;
 
     @Getter
@@ -26,7 +28,7 @@ public class User extends AuditableAbstractAggregateRoot<User> {
     private String password;
 
     @Getter
-    @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles;
@@ -43,17 +45,25 @@ public class User extends AuditableAbstractAggregateRoot<User> {
 
     public User(String username, String password, List<Role> roles) {
         this(username, password);
-        addRoles(roles);
+        this.roles.addAll(Role.validateRoleSet(roles));
+    }
+
+    public User updatePassword(String password) {
+        this.password = password;
+        registerEvent(new UserAuthoritiesChangedEvent(username));
+        return this;
     }
 
     public User addRole(Role role) {
         this.roles.add(role);
+        registerEvent(new UserAuthoritiesChangedEvent(username));
         return this;
     }
 
     public User addRoles(List<Role> roles) {
         var validatedRoles = Role.validateRoleSet(roles);
         this.roles.addAll(validatedRoles);
+        registerEvent(new UserAuthoritiesChangedEvent(username));
         return this;
     }
 }
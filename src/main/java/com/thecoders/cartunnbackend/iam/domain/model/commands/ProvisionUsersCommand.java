@@ -0,0 +1,26 @@
+package com.thecoders.cartunnbackend.iam.domain.model.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Usernames must be unique ignoring case, as the username column is.
+ */
+public record ProvisionUsersCommand(List<SignUpCommand> users) {
+    public static final int MAX_USERS = 5000;
+
+    public ProvisionUsersCommand {
+        if (users == null || users.isEmpty()) throw new IllegalArgumentException("At least one user is required");
+        if (users.size() > MAX_USERS)
+            throw new IllegalArgumentException("At most " + MAX_USERS + " users can be provisioned at once");
+        var usernames = new HashSet<String>();
+        for (var user : users) {
+            if (user.username() == null || user.username().isBlank() || user.password() == null || user.password().isBlank())
+                throw new IllegalArgumentException("Username and password are required");
+            if (!usernames.add(user.username().toLowerCase(Locale.ROOT)))
+                throw new IllegalArgumentException("Duplicate username: " + user.username());
+        }
+        users = List.copyOf(users);
+    }
+}
@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.iam.domain.model.commands;
+
+public record RefreshTokenCommand(String refreshToken) {
+}
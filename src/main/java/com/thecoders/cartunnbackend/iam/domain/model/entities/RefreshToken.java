@@ -0,0 +1,53 @@
+package com.thecoders.cartunnbackend.iam.domain.model.entities;
+
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Hash of a refresh token handed to a user. Each use rotates it: the token is revoked and a new one
+ * of the same family is issued, so presenting an already rotated token reveals that it was copied.
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_refresh_tokens_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "ix_refresh_tokens_family_id", columnList = "familyId"),
+        @Index(name = "ix_refresh_tokens_expires_at", columnList = "expiresAt")
+})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    private boolean revoked;
+
+    public RefreshToken() {
+    }
+
+    public RefreshToken(User user, String tokenHash, String familyId, Date expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.after(new Date());
+    }
+}
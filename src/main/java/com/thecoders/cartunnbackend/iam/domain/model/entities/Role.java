@@ -1,6 +1,7 @@
 package com.thecoders.cartunnbackend.iam.domain.model.entities;
 
 import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -10,7 +11,7 @@ import java.util.List;
 @Entity
 public class Role {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIdGenerator.NAME)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,7 @@
+package com.thecoders.cartunnbackend.iam.domain.model.events;
+
+/**
+ * Raised when the roles or the credentials of an existing user change.
+ */
+public record UserAuthoritiesChangedEvent(String username) {
+}
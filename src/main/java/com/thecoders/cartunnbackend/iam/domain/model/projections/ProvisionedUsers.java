@@ -0,0 +1,9 @@
+package com.thecoders.cartunnbackend.iam.domain.model.projections;
+
+import java.util.List;
+
+/**
+ * @param skippedUsernames usernames that were already taken, left untouched
+ */
+public record ProvisionedUsers(List<UserSummary> created, List<String> skippedUsernames) {
+}
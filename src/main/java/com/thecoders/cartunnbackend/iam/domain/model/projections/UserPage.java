@@ -0,0 +1,10 @@
+package com.thecoders.cartunnbackend.iam.domain.model.projections;
+
+import java.util.List;
+import java.util.Optional;
+
+public record UserPage(List<UserSummary> items, Long nextCursor) {
+    public Optional<Long> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,6 @@
+package com.thecoders.cartunnbackend.iam.domain.model.projections;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+
+public record UserRoleAssignment(Long userId, Roles role) {
+}
@@ -0,0 +1,15 @@
+package com.thecoders.cartunnbackend.iam.domain.model.projections;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+
+import java.util.List;
+
+public record UserSummary(Long id, String username, List<Roles> roles) {
+    public UserSummary(Long id, String username) {
+        this(id, username, List.of());
+    }
+
+    public UserSummary withRoles(List<Roles> roles) {
+        return new UserSummary(id, username, List.copyOf(roles));
+    }
+}
@@ -1,4 +0,0 @@
-package com.thecoders.cartunnbackend.iam.domain.model.queries;
-
-public record GetAllUsersQuery() {
-}
@@ -0,0 +1,16 @@
+package com.thecoders.cartunnbackend.iam.domain.model.queries;
+
+import java.util.Objects;
+import java.util.Set;
+
+public record GetUserSummariesByIdsQuery(Set<Long> userIds) {
+    public static final int MAX_IDS = 500;
+
+    public GetUserSummariesByIdsQuery {
+        if (userIds == null || userIds.isEmpty()) throw new IllegalArgumentException("User ids are required");
+        if (userIds.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("User ids must not be null");
+        if (userIds.size() > MAX_IDS)
+            throw new IllegalArgumentException("At most " + MAX_IDS + " user ids can be requested at once");
+        userIds = Set.copyOf(userIds);
+    }
+}
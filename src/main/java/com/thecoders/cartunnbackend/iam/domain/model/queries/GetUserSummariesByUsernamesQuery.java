@@ -0,0 +1,16 @@
+package com.thecoders.cartunnbackend.iam.domain.model.queries;
+
+import java.util.Objects;
+import java.util.Set;
+
+public record GetUserSummariesByUsernamesQuery(Set<String> usernames) {
+    public static final int MAX_USERNAMES = 500;
+
+    public GetUserSummariesByUsernamesQuery {
+        if (usernames == null || usernames.isEmpty()) throw new IllegalArgumentException("Usernames are required");
+        if (usernames.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Usernames must not be null");
+        if (usernames.size() > MAX_USERNAMES)
+            throw new IllegalArgumentException("At most " + MAX_USERNAMES + " usernames can be requested at once");
+        usernames = Set.copyOf(usernames);
+    }
+}
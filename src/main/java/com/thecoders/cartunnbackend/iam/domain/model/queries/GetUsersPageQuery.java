@@ -0,0 +1,17 @@
+package com.thecoders.cartunnbackend.iam.domain.model.queries;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+
+/**
+ * @param usernamePrefix only users whose username starts with it, or null for any
+ * @param role only users holding it, or null for any
+ */
+public record GetUsersPageQuery(String usernamePrefix, Roles role, Long afterId, int limit) {
+    public static final int MAX_LIMIT = 100;
+
+    public GetUsersPageQuery {
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        if (usernamePrefix != null && usernamePrefix.isBlank()) usernamePrefix = null;
+    }
+}
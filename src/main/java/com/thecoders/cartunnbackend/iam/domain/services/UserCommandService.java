@@ -1,14 +1,30 @@
 package com.thecoders.cartunnbackend.iam.domain.services;
 
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.ProvisionedUsers;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.ProvisionUsersCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.RefreshTokenCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignInCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.SignOutCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignUpCommand;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 
 import java.util.Optional;
 
 public interface UserCommandService {
   Optional<User> handle(SignUpCommand command);
 
-  Optional<ImmutablePair<User, String>> handle(SignInCommand command);
+  ProvisionedUsers handle(ProvisionUsersCommand command);
+
+  /**
+   * @return the user with an access token (middle) and a refresh token (right)
+   */
+  Optional<ImmutableTriple<User, String, String>> handle(SignInCommand command);
+
+  /**
+   * @return the user with a new access token (middle) and the rotated refresh token (right)
+   */
+  Optional<ImmutableTriple<User, String, String>> handle(RefreshTokenCommand command);
+
+  void handle(SignOutCommand command);
 }
@@ -1,17 +1,25 @@
 package com.thecoders.cartunnbackend.iam.domain.services;
 
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllUsersQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserPage;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByIdQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByUsernameQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByIdsQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByUsernamesQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUsersPageQuery;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface UserQueryService {
-  List<User> handle(GetAllUsersQuery query);
+  UserPage handle(GetUsersPageQuery query);
 
   Optional<User> handle(GetUserByIdQuery query);
 
   Optional<User> handle(GetUserByUsernameQuery query);
+
+  List<UserSummary> handle(GetUserSummariesByIdsQuery query);
+
+  List<UserSummary> handle(GetUserSummariesByUsernamesQuery query);
 }
@@ -1,9 +1,12 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.pipeline.AuthenticationThrottlingRequestFilter;
 import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services.UserDetailsServiceImpl;
 import com.thecoders.cartunnbackend.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
+import com.thecoders.cartunnbackend.iam.infrastructure.throttling.services.AuthenticationRateLimiter;
 import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.BearerTokenService;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,37 +15,58 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Configuration
 @EnableMethodSecurity
 public class WebSecurityConfiguration {
-    private final UserDetailsService userDetailsService;
+    private static final String[] PUBLIC_PATHS = {
+            "/api/v1/authentication/**",
+            "/v3/api-docs/**",
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    private final UserDetailsServiceImpl userDetailsService;
     private final BearerTokenService tokenService;
     private final BCryptHashingService hashingService;
     private final AuthenticationEntryPoint unauthorizedRequestHandler;
+    private final AuthenticationRateLimiter authenticationRateLimiter;
+    private final ObjectMapper objectMapper;
 
     public WebSecurityConfiguration(
-            @Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService,
+            UserDetailsServiceImpl userDetailsService,
             BearerTokenService tokenService,
             BCryptHashingService hashingService,
-            AuthenticationEntryPoint unauthorizedRequestHandler) {
+            AuthenticationEntryPoint unauthorizedRequestHandler,
+            AuthenticationRateLimiter authenticationRateLimiter,
+            ObjectMapper objectMapper) {
         this.userDetailsService = userDetailsService;
         this.tokenService = tokenService;
         this.hashingService = hashingService;
         this.unauthorizedRequestHandler = unauthorizedRequestHandler;
+        this.authenticationRateLimiter = authenticationRateLimiter;
+        this.objectMapper = objectMapper;
     }
 
     @Bean
     public BearerAuthorizationRequestFilter authorizationRequestFilter() {
-        return new BearerAuthorizationRequestFilter(tokenService, userDetailsService);
+        var publicRequestMatcher = new OrRequestMatcher(Arrays.stream(PUBLIC_PATHS)
+                .map(path -> (RequestMatcher) new AntPathRequestMatcher(path))
+                .toList());
+        return new BearerAuthorizationRequestFilter(tokenService, userDetailsService, publicRequestMatcher);
     }
 
     @Bean
@@ -79,17 +103,14 @@ public class WebSecurityConfiguration {
                         .authenticationEntryPoint(unauthorizedRequestHandler))
                 .sessionManagement(customizer -> customizer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
-                        .requestMatchers(
-                                "/api/v1/authentication/**",
-                                "/v3/api-docs/**",
-                                "/swagger-ui.html",
-                                "/swagger-ui/**",
-                                "/swagger-resources/**",
-                                "/webjars/**")
+                        .requestMatchers(PUBLIC_PATHS)
                         .permitAll()
                         .anyRequest().authenticated());
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(authorizationRequestFilter(), UsernamePasswordAuthenticationFilter.class);
+        // Not a bean, so it only runs inside the security filter chain
+        http.addFilterBefore(new AuthenticationThrottlingRequestFilter(authenticationRateLimiter, objectMapper),
+                BearerAuthorizationRequestFilter.class);
         return http.build();
     }
 
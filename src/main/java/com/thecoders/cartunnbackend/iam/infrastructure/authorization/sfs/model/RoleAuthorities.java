@@ -0,0 +1,68 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Authorities of each {@link Roles} value, created once.
+ * A set of roles is a bit mask indexed by role ordinal, and every possible mask has its authority list
+ * built up front, so turning roles into authorities and checking a role allocate nothing.
+ */
+public final class RoleAuthorities {
+    private static final Roles[] ROLES = Roles.values();
+    private static final GrantedAuthority[] AUTHORITIES = new GrantedAuthority[ROLES.length];
+    private static final List<List<GrantedAuthority>> AUTHORITY_LISTS = new ArrayList<>(1 << ROLES.length);
+
+    static {
+        for (var role : ROLES) AUTHORITIES[role.ordinal()] = new SimpleGrantedAuthority(role.name());
+        for (int mask = 0; mask < 1 << ROLES.length; mask++) {
+            var authorities = new ArrayList<GrantedAuthority>();
+            for (var role : ROLES) {
+                if (contains(mask, role)) authorities.add(AUTHORITIES[role.ordinal()]);
+            }
+            AUTHORITY_LISTS.add(List.copyOf(authorities));
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    public static GrantedAuthority of(Roles role) {
+        return AUTHORITIES[role.ordinal()];
+    }
+
+    public static int bitOf(Roles role) {
+        return 1 << role.ordinal();
+    }
+
+    public static int maskOf(Iterable<Roles> roles) {
+        int mask = 0;
+        for (var role : roles) mask |= bitOf(role);
+        return mask;
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(int mask) {
+        return AUTHORITY_LISTS.get(mask);
+    }
+
+    public static boolean contains(int mask, Roles role) {
+        return (mask & bitOf(role)) != 0;
+    }
+
+    /**
+     * The mask of authorities that did not come from {@link #authoritiesOf(int)}, matched by name.
+     */
+    public static int maskOfAuthorities(Iterable<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (var authority : authorities) {
+            for (var role : ROLES) {
+                if (role.name().equals(authority.getAuthority())) mask |= bitOf(role);
+            }
+        }
+        return mask;
+    }
+}
@@ -1,11 +1,11 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model;
 
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
@@ -22,6 +22,8 @@ public class UserDetailsImpl implements UserDetails {
     private final boolean credentialsNonExpired;
     private final boolean enabled;
     private final Collection<? extends GrantedAuthority> authorities;
+    @JsonIgnore
+    private final int roleMask;
 
     public UserDetailsImpl(
             String username,
@@ -35,14 +37,44 @@ public class UserDetailsImpl implements UserDetails {
         this.credentialsNonExpired = true;
         this.enabled = true;
         this.authorities = authorities;
+        this.roleMask = RoleAuthorities.maskOfAuthorities(authorities);
+    }
+
+    private UserDetailsImpl(String username, String password, int roleMask) {
+        this.username = username;
+        this.password = password;
+        this.accountNonExpired = true;
+        this.accountNonLocked = true;
+        this.credentialsNonExpired = true;
+        this.enabled = true;
+        this.authorities = RoleAuthorities.authoritiesOf(roleMask);
+        this.roleMask = roleMask;
     }
 
     public static UserDetailsImpl build(User user) {
-        var authorities = user.getRoles().stream()
-                .map(role -> role.getName().name())
-                .map(SimpleGrantedAuthority::new)
-                .toList();
-        return new UserDetailsImpl(user.getUsername(), user.getPassword(), authorities);
+        int roleMask = 0;
+        for (var role : user.getRoles()) roleMask |= RoleAuthorities.bitOf(role.getName());
+        return new UserDetailsImpl(user.getUsername(), user.getPassword(), roleMask);
+    }
+
+    /**
+     * Builds the principal of an authenticated request, which carries no password.
+     */
+    public static UserDetailsImpl buildPrincipal(User user) {
+        int roleMask = 0;
+        for (var role : user.getRoles()) roleMask |= RoleAuthorities.bitOf(role.getName());
+        return new UserDetailsImpl(user.getUsername(), null, roleMask);
+    }
+
+    /**
+     * Builds the principal of a stateless token, which carries no password.
+     */
+    public static UserDetailsImpl build(String username, Collection<Roles> roles) {
+        return new UserDetailsImpl(username, null, RoleAuthorities.maskOf(roles));
+    }
+
+    public boolean hasRole(Roles role) {
+        return RoleAuthorities.contains(roleMask, role);
     }
 
 }
@@ -0,0 +1,87 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.iam.infrastructure.throttling.services.AuthenticationRateLimiter;
+import com.thecoders.cartunnbackend.shared.infrastructure.web.CachedBodyHttpServletRequest;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Rejects sign-in and sign-up attempts over the per client address and per username budgets with 429,
+ * before the request reaches password hashing or the user store.
+ */
+public class AuthenticationThrottlingRequestFilter extends OncePerRequestFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationThrottlingRequestFilter.class);
+    private static final Set<String> THROTTLED_PATHS = Set.of("/api/v1/authentication/sign-in", "/api/v1/authentication/sign-up");
+    private static final String USERNAME_FIELD = "username";
+
+    private final AuthenticationRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public AuthenticationThrottlingRequestFilter(AuthenticationRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !THROTTLED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var clientWait = rateLimiter.tryAcquireForClient(request.getRemoteAddr());
+        if (clientWait.isPresent()) {
+            reject(response, clientWait.get());
+            return;
+        }
+        var cachedRequest = new CachedBodyHttpServletRequest(request);
+        var username = usernameFrom(cachedRequest.getBody());
+        if (username.isPresent()) {
+            var usernameWait = rateLimiter.tryAcquireForUsername(username.get());
+            if (usernameWait.isPresent()) {
+                reject(response, usernameWait.get());
+                return;
+            }
+        }
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private Optional<String> usernameFrom(byte[] body) {
+        try {
+            var username = objectMapper.readTree(body).path(USERNAME_FIELD);
+            return username.isTextual() ? Optional.of(username.asText()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void reject(HttpServletResponse response, Duration wait) throws IOException {
+        LOGGER.debug("Authentication attempt throttled for {} ms", wait.toMillis());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (wait.toMillis() + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new MessageResource("Too many authentication attempts"));
+    }
+}
@@ -1,7 +1,11 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.pipeline;
 
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services.UserDetailsServiceImpl;
 import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.TokenMode;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,25 +13,33 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(BearerAuthorizationRequestFilter.class);
     private final BearerTokenService tokenService;
-    @Qualifier("defaultUserDetailsService")
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final RequestMatcher publicRequestMatcher;
 
     public BearerAuthorizationRequestFilter(
             BearerTokenService bearerTokenService,
-            UserDetailsService userDetailsService
+            UserDetailsServiceImpl userDetailsService,
+            RequestMatcher publicRequestMatcher
     ) {
         this.tokenService = bearerTokenService;
         this.userDetailsService = userDetailsService;
+        this.publicRequestMatcher = publicRequestMatcher;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return publicRequestMatcher.matches(request);
     }
 
     @Override
@@ -38,16 +50,24 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String token = tokenService.getBearerTokenFrom(request);
-            LOGGER.info("Token: {}", token);
-            if (token != null && tokenService.validateToken(token)) {
-                String username = tokenService.getUsernameFromToken(token);
-                var userDetails = userDetailsService.loadUserByUsername(username);
+            var claims = token == null ? Optional.<Claims>empty() : tokenService.getValidatedClaimsFrom(token);
+            if (claims.isPresent()) {
+                var username = claims.get().getSubject();
+                var embeddedRoles = tokenService.getEmbeddedRolesFrom(claims.get());
+                UserDetails userDetails;
+                if (tokenService.getMode() == TokenMode.STATELESS) {
+                    userDetails = UserDetailsImpl.build(username, embeddedRoles
+                            .orElseThrow(() -> new IllegalArgumentException("Token without roles in stateless mode")));
+                } else {
+                    if (embeddedRoles.isPresent())
+                        throw new IllegalArgumentException("Token with embedded roles in lookup mode");
+                    userDetails = userDetailsService.loadPrincipalByUsername(username);
+                }
                 SecurityContextHolder.getContext()
                         .setAuthentication(UsernamePasswordAuthenticationTokenBuilder
                                 .build(userDetails, request));
             } else {
-                LOGGER.warn("Token is not valid or not present in the request.");
-
+                LOGGER.debug("Token is not valid or not present in the request.");
             }
         } catch (Exception e) {
             LOGGER.error("Cannot set user authentication: {}", e.getMessage());
@@ -0,0 +1,35 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.RoleAuthorities;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Role checks for method security expressions, such as
+ * {@code @PreAuthorize("@roleChecks.hasRole(authentication, 'ROLE_STAFF')")}.
+ * The role name is converted to {@link Roles} by the expression and tested against the role mask of the principal,
+ * instead of building a set of authority names and comparing strings as {@code hasRole} does.
+ */
+@Component("roleChecks")
+public class RoleChecks {
+
+    public boolean hasRole(Authentication authentication, Roles role) {
+        return (roleMaskOf(authentication) & RoleAuthorities.bitOf(role)) != 0;
+    }
+
+    public boolean hasAnyRole(Authentication authentication, Roles... roles) {
+        int roleMask = roleMaskOf(authentication);
+        for (var role : roles) {
+            if (RoleAuthorities.contains(roleMask, role)) return true;
+        }
+        return false;
+    }
+
+    private static int roleMaskOf(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) return 0;
+        if (authentication.getPrincipal() instanceof UserDetailsImpl userDetails) return userDetails.getRoleMask();
+        return RoleAuthorities.maskOfAuthorities(authentication.getAuthorities());
+    }
+}
@@ -1,11 +1,17 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services;
 
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.events.UserAuthoritiesChangedEvent;
 import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.caching.configuration.CachingConfiguration;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service(value = "defaultUserDetailsService")
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -17,8 +23,25 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
+        return UserDetailsImpl.build(findUser(username));
+    }
+
+    /**
+     * Runs on every authenticated request, so the principal is cached by username.
+     * It holds the authorities only, never the password hash. Unknown usernames throw and are never cached.
+     */
+    @Cacheable(cacheNames = CachingConfiguration.USER_AUTHORITIES_CACHE, key = "#username")
+    public UserDetailsImpl loadPrincipalByUsername(String username) throws UsernameNotFoundException {
+        return UserDetailsImpl.buildPrincipal(findUser(username));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CachingConfiguration.USER_AUTHORITIES_CACHE, key = "#event.username()")
+    public void on(UserAuthoritiesChangedEvent event) {
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-        return UserDetailsImpl.build(user);
     }
 }
@@ -1,24 +1,163 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.hashing.bcrypt.services;
 
+import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingUnavailableException;
 import com.thecoders.cartunnbackend.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.thecoders.cartunnbackend.iam.infrastructure.hashing.calibration.HashingAlgorithm;
+import com.thecoders.cartunnbackend.iam.infrastructure.hashing.calibration.PasswordEncoderCalibrator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Passwords are hashed with the configured algorithm, at a fixed cost or at the cost calibrated on startup
+ * to hash within {@code authorization.hashing.target-latency}. Hashes made with another algorithm or a lower cost
+ * still match and are reported by {@link #needsRehash}.
+ * <p>
+ * Hashing runs on a dedicated bounded pool instead of the request threads.
+ * At most {@code threads + queueCapacity} requests wait for a hash at a time; any request beyond that,
+ * or one that waits longer than {@code maxWait}, fails fast with {@link HashingUnavailableException}.
+ * This way a burst of sign-ins cannot tie up every request worker.
+ * <p>
+ * Bulk provisioning hashes on a second pool, so a large batch neither waits behind sign-ins nor delays them.
+ */
 @Service
 public class HashingServiceImpl implements BCryptHashingService {
-    private final BCryptPasswordEncoder passwordEncoder;
+    private static final String METRIC_PREFIX = "iam.hashing";
+
+    private static final String CALIBRATED_COST = "auto";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Duration maxWait;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public HashingServiceImpl(
+            @Value("${authorization.hashing.algorithm:bcrypt}") HashingAlgorithm algorithm,
+            @Value("${authorization.hashing.cost:auto}") String cost,
+            @Value("${authorization.hashing.target-latency:PT0.05S}") Duration targetLatency,
+            @Value("${authorization.hashing.threads:4}") int threads,
+            @Value("${authorization.hashing.queue-capacity:16}") int queueCapacity,
+            @Value("${authorization.hashing.max-wait:PT5S}") Duration maxWait,
+            @Value("${authorization.hashing.bulk-threads:0}") int bulkThreads,
+            @Value("${authorization.hashing.bulk-queue-capacity:10000}") int bulkQueueCapacity,
+            MeterRegistry meterRegistry) {
+        this(algorithm.delegatingEncoderFor(CALIBRATED_COST.equalsIgnoreCase(cost)
+                        ? PasswordEncoderCalibrator.calibrate(algorithm, targetLatency)
+                        : Integer.parseInt(cost)),
+                threads, queueCapacity, maxWait,
+                bulkThreads > 0 ? bulkThreads : defaultBulkThreads(Runtime.getRuntime().availableProcessors(), threads),
+                bulkQueueCapacity, meterRegistry);
+    }
 
-    public HashingServiceImpl() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+    HashingServiceImpl(PasswordEncoder passwordEncoder, int threads, int queueCapacity, Duration maxWait,
+                       int bulkThreads, int bulkQueueCapacity, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWait = maxWait;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("bcrypt-"), new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "bcrypt-hashing");
+        this.bulkExecutor = new ThreadPoolExecutor(bulkThreads, bulkThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkQueueCapacity), new CustomizableThreadFactory("bcrypt-bulk-"), new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, bulkExecutor, "bcrypt-bulk-hashing");
+        this.encodeTimer = Timer.builder(METRIC_PREFIX + ".duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX + ".duration").tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected").register(meterRegistry);
+    }
+
+    /**
+     * Leaves the interactive pool its threads' worth of processors, so a bulk import does not slow sign-ins down.
+     */
+    static int defaultBulkThreads(int processors, int interactiveThreads) {
+        return Math.max(1, processors - interactiveThreads);
     }
 
     @Override
     public String encode(CharSequence rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Fails without hashing anything when the passwords do not fit in the bulk queue.
+     */
+    @Override
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        var futures = new ArrayList<CompletableFuture<String>>(rawPasswords.size());
+        try {
+            for (var rawPassword : rawPasswords)
+                futures.add(CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)), bulkExecutor));
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            rejectedCounter.increment();
+            throw new HashingUnavailableException("Too many passwords waiting to be hashed");
+        }
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new HashingUnavailableException("Too many concurrent authentication requests");
+        }
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new HashingUnavailableException("Timed out waiting for password hashing");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new HashingUnavailableException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
     }
 }
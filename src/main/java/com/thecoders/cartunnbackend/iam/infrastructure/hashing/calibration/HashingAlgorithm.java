@@ -0,0 +1,93 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.hashing.calibration;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.HashMap;
+
+/**
+ * Password hashing algorithms with a single tunable cost each.
+ * bcrypt: log2 rounds; argon2: iterations over 16 MiB; scrypt: log2 of the CPU/memory cost.
+ * Minimum costs are the Spring Security defaults and are never calibrated below.
+ */
+public enum HashingAlgorithm {
+    BCRYPT("bcrypt", 10, 16) {
+        @Override
+        public PasswordEncoder encoderFor(int cost) {
+            return new BCryptPasswordEncoder(cost);
+        }
+
+        @Override
+        double costGrowth(int cost) {
+            return 2.0;
+        }
+    },
+    ARGON2("argon2", 2, 32) {
+        @Override
+        public PasswordEncoder encoderFor(int cost) {
+            return new Argon2PasswordEncoder(16, 32, 1, 1 << 14, cost);
+        }
+
+        @Override
+        double costGrowth(int cost) {
+            return (cost + 1.0) / cost;
+        }
+    },
+    SCRYPT("scrypt", 16, 17) {
+        @Override
+        public PasswordEncoder encoderFor(int cost) {
+            return new SCryptPasswordEncoder(1 << cost, 8, 1, 32, 16);
+        }
+
+        @Override
+        double costGrowth(int cost) {
+            return 2.0;
+        }
+    };
+
+    private final String id;
+    private final int minimumCost;
+    private final int maximumCost;
+
+    HashingAlgorithm(String id, int minimumCost, int maximumCost) {
+        this.id = id;
+        this.minimumCost = minimumCost;
+        this.maximumCost = maximumCost;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public int minimumCost() {
+        return minimumCost;
+    }
+
+    public int maximumCost() {
+        return maximumCost;
+    }
+
+    public abstract PasswordEncoder encoderFor(int cost);
+
+    /**
+     * Expected ratio between the hashing time at {@code cost + 1} and at {@code cost}.
+     */
+    abstract double costGrowth(int cost);
+
+    /**
+     * Encodes new passwords with this algorithm at the given cost and prefixes them with its id.
+     * Hashes of the other algorithms, and unprefixed bcrypt hashes stored before prefixes were used, still match
+     * and report that they need an upgrade.
+     */
+    public PasswordEncoder delegatingEncoderFor(int cost) {
+        var encoders = new HashMap<String, PasswordEncoder>();
+        for (var algorithm : values()) encoders.put(algorithm.id, algorithm.encoderFor(algorithm.minimumCost));
+        encoders.put(id, encoderFor(cost));
+        var delegatingPasswordEncoder = new DelegatingPasswordEncoder(id, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(BCRYPT.encoderFor(BCRYPT.minimumCost));
+        return delegatingPasswordEncoder;
+    }
+}
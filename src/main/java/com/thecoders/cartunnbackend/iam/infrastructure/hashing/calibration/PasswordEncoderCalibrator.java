@@ -0,0 +1,58 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.hashing.calibration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Picks the highest cost whose hashing time on this host stays within a latency target.
+ */
+public class PasswordEncoderCalibrator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordEncoderCalibrator.class);
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    public static int calibrate(HashingAlgorithm algorithm, Duration targetLatency) {
+        return calibrate(algorithm, targetLatency, cost -> medianEncodeNanos(algorithm, cost));
+    }
+
+    /**
+     * Measures increasing costs from the algorithm minimum, stopping as soon as a cost exceeds the target
+     * or the next one is expected to, so the most expensive cost is never measured.
+     */
+    static int calibrate(HashingAlgorithm algorithm, Duration targetLatency, IntToLongFunction encodeNanosOfCost) {
+        var targetNanos = targetLatency.toNanos();
+        var cost = algorithm.minimumCost();
+        var nanos = encodeNanosOfCost.applyAsLong(cost);
+        if (nanos > targetNanos) {
+            LOGGER.warn("Minimum {} cost {} takes {} ms, above the {} ms target", algorithm.id(), cost,
+                    Duration.ofNanos(nanos).toMillis(), targetLatency.toMillis());
+            return cost;
+        }
+        while (cost < algorithm.maximumCost() && nanos * algorithm.costGrowth(cost) <= targetNanos) {
+            var nextNanos = encodeNanosOfCost.applyAsLong(cost + 1);
+            if (nextNanos > targetNanos) break;
+            cost++;
+            nanos = nextNanos;
+        }
+        LOGGER.info("Calibrated {} cost to {} ({} ms per hash, target {} ms)", algorithm.id(), cost,
+                Duration.ofNanos(nanos).toMillis(), targetLatency.toMillis());
+        return cost;
+    }
+
+    private static long medianEncodeNanos(HashingAlgorithm algorithm, int cost) {
+        var encoder = algorithm.encoderFor(cost);
+        encoder.encode(SAMPLE_PASSWORD);
+        var samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            var start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,34 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.iam.domain.model.entities.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * @return 1 when this call revoked the token, 0 when it had already been revoked
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.id = :id and t.revoked = false")
+    int revokeIfActive(Long id);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(String familyId);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.revoked = false and t.user.id in (select u.id from User u where u.username = :username)")
+    int revokeAllByUsername(String username);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteExpired(Date now);
+}
@@ -0,0 +1,20 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.model.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+    @Query("select t.tokenId from RevokedAccessToken t where t.expiresAt > :now")
+    List<String> findTokenIdsExpiringAfter(Date now);
+
+    @Modifying
+    @Query("delete from RevokedAccessToken t where t.expiresAt <= :now")
+    int deleteExpired(Date now);
+}
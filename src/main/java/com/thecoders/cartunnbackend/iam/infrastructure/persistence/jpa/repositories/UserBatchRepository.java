@@ -0,0 +1,15 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface UserBatchRepository {
+    /**
+     * Inserts the users and their role assignments in JDBC batches.
+     * @return the generated ids in the order of the users
+     */
+    @Transactional
+    List<Long> insertAll(List<User> users);
+}
@@ -0,0 +1,35 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * User ids come from the pooled id generator, so Hibernate batches the user and user_roles inserts itself.
+ * The persistence context is flushed and cleared after every batch to keep a large import from growing it.
+ */
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+    private static final int FLUSH_SIZE = PooledIdGenerator.ALLOCATION_SIZE;
+
+    private final EntityManager entityManager;
+
+    public UserBatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Long> insertAll(List<User> users) {
+        var ids = new ArrayList<Long>(users.size());
+        for (int from = 0; from < users.size(); from += FLUSH_SIZE) {
+            var batch = users.subList(from, Math.min(from + FLUSH_SIZE, users.size()));
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+            batch.forEach(user -> ids.add(user.getId()));
+        }
+        return ids;
+    }
+}
@@ -1,14 +1,56 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories;
 
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserRoleAssignment;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBatchRepository {
   Optional<User> findByUsername(String username);
 
   boolean existsByUsername(String username);
+
+  @Query("select u.username from User u where u.username in :usernames")
+  List<String> findExistingUsernames(Collection<String> usernames);
+
+  /**
+   * Ids and usernames only, so the eager roles join does not multiply the rows of the page.
+   * A null role matches every user. Ids start at 1, so an afterId of 0 reads the first page.
+   */
+  @Query("select new com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary(u.id, u.username) from User u " +
+          "where u.id > :afterId " +
+          "and (:role is null or exists (select r.id from u.roles r where r.name = :role)) " +
+          "order by u.id")
+  List<UserSummary> findSummaries(Roles role, long afterId, Limit limit);
+
+  /**
+   * Same page as findSummaries, kept as its own query so the username prefix can use the username index.
+   */
+  @Query("select new com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary(u.id, u.username) from User u " +
+          "where u.username like :usernamePattern escape '!' " +
+          "and u.id > :afterId " +
+          "and (:role is null or exists (select r.id from u.roles r where r.name = :role)) " +
+          "order by u.id")
+  List<UserSummary> findSummariesByUsernameLike(String usernamePattern, Roles role, long afterId, Limit limit);
+
+  @Query("select new com.thecoders.cartunnbackend.iam.domain.model.projections.UserRoleAssignment(u.id, r.name) " +
+          "from User u join u.roles r where u.id in :userIds")
+  List<UserRoleAssignment> findRoleAssignmentsByUserIds(Collection<Long> userIds);
+
+  @Query("select new com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary(u.id, u.username) " +
+          "from User u where u.id in :userIds")
+  List<UserSummary> findSummariesByIds(Collection<Long> userIds);
+
+  @Query("select new com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary(u.id, u.username) " +
+          "from User u where u.username in :usernames")
+  List<UserSummary> findSummariesByUsernames(Collection<String> usernames);
 }
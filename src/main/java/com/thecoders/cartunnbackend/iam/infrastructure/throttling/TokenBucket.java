@@ -0,0 +1,34 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.throttling;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket refilled continuously at {@code capacity} tokens per refill period.
+ * Consumption is a compare-and-set on an immutable state, so concurrent attempts never block each other.
+ */
+public class TokenBucket {
+    private final int capacity;
+    private final double nanosPerToken;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = (double) refillPeriodNanos / capacity;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * @return 0 when a token was consumed, otherwise the nanoseconds until the next token is available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            var current = state.get();
+            var tokens = Math.min(capacity, current.tokens() + (nowNanos - current.updatedAtNanos()) / nanosPerToken);
+            if (tokens < 1) return (long) Math.ceil((1 - tokens) * nanosPerToken);
+            if (state.compareAndSet(current, new State(tokens - 1, nowNanos))) return 0;
+        }
+    }
+
+    private record State(double tokens, long updatedAtNanos) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.throttling.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thecoders.cartunnbackend.iam.infrastructure.throttling.TokenBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per client address and per username for the authentication endpoints.
+ * Buckets live in a bounded concurrent cache and are evicted once idle for a full refill period,
+ * when they would be full again anyway.
+ */
+@Service
+public class AuthenticationRateLimiter {
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final int clientCapacity;
+    private final int usernameCapacity;
+    private final long refillPeriodNanos;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public AuthenticationRateLimiter(
+            @Value("${authorization.throttling.client.capacity:20}") int clientCapacity,
+            @Value("${authorization.throttling.username.capacity:5}") int usernameCapacity,
+            @Value("${authorization.throttling.refill-period:PT1M}") Duration refillPeriod,
+            @Value("${authorization.throttling.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this(clientCapacity, usernameCapacity, refillPeriod, maxTrackedKeys, System::nanoTime);
+    }
+
+    AuthenticationRateLimiter(int clientCapacity, int usernameCapacity, Duration refillPeriod, long maxTrackedKeys, LongSupplier nanoTime) {
+        this.clientCapacity = clientCapacity;
+        this.usernameCapacity = usernameCapacity;
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.nanoTime = nanoTime;
+        this.clientBuckets = Caffeine.newBuilder().maximumSize(maxTrackedKeys).expireAfterAccess(refillPeriod).build();
+        this.usernameBuckets = Caffeine.newBuilder().maximumSize(maxTrackedKeys).expireAfterAccess(refillPeriod).build();
+    }
+
+    /**
+     * @return empty when the attempt is allowed, otherwise how long the client should wait
+     */
+    public Optional<Duration> tryAcquireForClient(String clientAddress) {
+        return tryConsume(clientBuckets, clientAddress, clientCapacity);
+    }
+
+    /**
+     * Usernames are compared case-insensitively, as the user store does.
+     * @return empty when the attempt is allowed, otherwise how long the client should wait
+     */
+    public Optional<Duration> tryAcquireForUsername(String username) {
+        return tryConsume(usernameBuckets, username.strip().toLowerCase(Locale.ROOT), usernameCapacity);
+    }
+
+    private Optional<Duration> tryConsume(Cache<String, TokenBucket> buckets, String key, int capacity) {
+        var now = nanoTime.getAsLong();
+        var bucket = buckets.get(key, ignored -> new TokenBucket(capacity, refillPeriodNanos, now));
+        var waitNanos = bucket.tryConsume(now);
+        return waitNanos == 0 ? Optional.empty() : Optional.of(Duration.ofNanos(waitNanos));
+    }
+}
@@ -1,11 +1,32 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt;
 
 import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.tokens.TokenService;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface BearerTokenService extends TokenService {
     String getBearerTokenFrom(HttpServletRequest request);
 
     String generateToken(Authentication authentication);
+
+    /**
+     * @return the configured authorization.jwt.mode, which decides whether issued tokens embed the user roles
+     */
+    TokenMode getMode();
+
+    /**
+     * Verifies the token signature and expiration once.
+     * @return the token claims, or empty when the token is not valid
+     */
+    Optional<Claims> getValidatedClaimsFrom(String token);
+
+    /**
+     * @return the roles signed into a stateless token, or empty when the token carries only the username
+     */
+    Optional<List<Roles>> getEmbeddedRolesFrom(Claims claims);
 }
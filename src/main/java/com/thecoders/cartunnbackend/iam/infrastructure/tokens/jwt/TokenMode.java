@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt;
+
+/**
+ * LOOKUP tokens carry only the username, and authorities are loaded from the user store on each request.
+ * STATELESS tokens also carry the user id and role ordinals and are short-lived, so requests are authorized
+ * from the token alone.
+ */
+public enum TokenMode {
+    LOOKUP,
+    STATELESS
+}
@@ -1,6 +1,10 @@
 package com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.services;
 
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
 import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.TokenMode;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.services.AccessTokenRevocationList;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -16,8 +20,10 @@ import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
-import java.util.function.Function;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.*;
 
 @Service
 public class TokenServiceImpl implements BearerTokenService {
@@ -26,12 +32,32 @@ public class TokenServiceImpl implements BearerTokenService {
     private static final String AUTHORIZATION_PARAMETER_NAME = "Authorization";
     private static final String BEARER_TOKEN_PREFIX = "Bearer";
     private static final int TOKEN_BEGIN_INDEX = 7;
-
-    @Value("${authorization.jwt.secret}")
-    private String secret;
-
-    @Value("${authorization.jwt.expiration.days}")
-    private int expirationDays;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final Roles[] ROLES = Roles.values();
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final int expirationMinutes;
+    private final TokenMode mode;
+    private final int statelessExpirationMinutes;
+    private final AccessTokenRevocationList revocationList;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public TokenServiceImpl(
+            @Value("${authorization.jwt.secret}") String secret,
+            @Value("${authorization.jwt.expiration.minutes}") int expirationMinutes,
+            @Value("${authorization.jwt.mode:lookup}") TokenMode mode,
+            @Value("${authorization.jwt.stateless.expiration.minutes:15}") int statelessExpirationMinutes,
+            AccessTokenRevocationList revocationList) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expirationMinutes = expirationMinutes;
+        this.mode = mode;
+        this.statelessExpirationMinutes = statelessExpirationMinutes;
+        this.revocationList = revocationList;
+    }
 
     @Override
     public String getBearerTokenFrom(HttpServletRequest request) {
@@ -46,20 +72,50 @@ public class TokenServiceImpl implements BearerTokenService {
         return buildTokenWithDefaultParameters(authentication.getName());
     }
 
+    @Override
+    public TokenMode getMode() {
+        return mode;
+    }
+
     @Override
     public String generateToken(String username) {
         return buildTokenWithDefaultParameters(username);
     }
 
+    @Override
+    public String generateToken(User user) {
+        if (mode == TokenMode.LOOKUP) return buildTokenWithDefaultParameters(user.getUsername());
+        var issuedAt = new Date();
+        var expiration = DateUtils.addMinutes(issuedAt, statelessExpirationMinutes);
+        var roleOrdinals = user.getRoles().stream()
+                .map(role -> role.getName().ordinal())
+                .sorted()
+                .toList();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, roleOrdinals)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(signingKey)
+                .compact();
+    }
+
     @Override
     public boolean validateToken(String token) {
+        return getValidatedClaimsFrom(token).isPresent();
+    }
+
+    @Override
+    public Optional<Claims> getValidatedClaimsFrom(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            LOGGER.info("JSON Web Token is valid");
-            return true;
+            var claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getId() != null && revocationList.isRevoked(claims.getId())) {
+                LOGGER.warn("Revoked JSON Web Token: {}", claims.getId());
+                return Optional.empty();
+            }
+            return Optional.of(claims);
         } catch (SignatureException e) {
             LOGGER.error("Invalid JSON Web Token signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -71,45 +127,69 @@ public class TokenServiceImpl implements BearerTokenService {
         } catch (IllegalArgumentException e) {
             LOGGER.error("JSON Web Token claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     @Override
     public String getUsernameFromToken(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Override
+    public boolean revokeToken(String token) {
+        var claims = getValidatedClaimsFrom(token);
+        if (claims.isEmpty() || claims.get().getId() == null) return false;
+        revocationList.revoke(claims.get().getId(), claims.get().getExpiration());
+        return true;
+    }
+
+    @Override
+    public String generateRefreshToken() {
+        var bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Refresh tokens are random, so a single unsalted SHA-256 is enough to keep stored hashes from being replayed.
+     */
+    @Override
+    public String hashRefreshToken(String refreshToken) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Optional<List<Roles>> getEmbeddedRolesFrom(Claims claims) {
+        var roleOrdinals = claims.get(ROLES_CLAIM, List.class);
+        if (roleOrdinals == null) return Optional.empty();
+        var roles = new ArrayList<Roles>(roleOrdinals.size());
+        for (var roleOrdinal : roleOrdinals) {
+            var ordinal = ((Number) roleOrdinal).intValue();
+            if (ordinal < 0 || ordinal >= ROLES.length)
+                throw new IllegalArgumentException("Unknown role ordinal in token: " + ordinal);
+            roles.add(ROLES[ordinal]);
+        }
+        return Optional.of(roles);
     }
 
     // Private methods
     private String buildTokenWithDefaultParameters(String username) {
         var issuedAt = new Date();
-        var expiration = DateUtils.addDays(issuedAt, expirationDays);
-        var key = getSigningKey();
+        var expiration = DateUtils.addMinutes(issuedAt, expirationMinutes);
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(issuedAt)
                 .expiration(expiration)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
-    }
-
     private boolean isTokenPresentIn(String authorizationParameter) {
         return StringUtils.hasText(authorizationParameter);
     }
@@ -0,0 +1,29 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Id of an access token revoked before it expires, kept until the token would have expired.
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "ix_revoked_access_tokens_expires_at", columnList = "expiresAt"))
+public class RevokedAccessToken {
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    public RevokedAccessToken() {
+    }
+
+    public RevokedAccessToken(String tokenId, Date expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.services;
+
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RevokedAccessTokenRepository;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.BloomFilter;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.model.RevokedAccessToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of revoked access tokens that have not expired yet.
+ * Every authenticated request checks its token id against a Bloom filter rebuilt from the database on a fixed delay,
+ * so tokens that were never revoked, almost all of them, are accepted without a database round trip.
+ * A filter hit is confirmed against the ids revoked on this instance since the last rebuild, then against the database.
+ * Tokens revoked on another instance are rejected here from the next rebuild on.
+ */
+@Service
+public class AccessTokenRevocationList {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessTokenRevocationList.class);
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final Object rebuildLock = new Object();
+    private volatile BloomFilter filter;
+    private volatile Set<String> revokedSinceRebuild = ConcurrentHashMap.newKeySet();
+
+    public AccessTokenRevocationList(
+            RevokedAccessTokenRepository revokedAccessTokenRepository,
+            @Value("${authorization.jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+            @Value("${authorization.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    public void revoke(String tokenId, Date expiresAt) {
+        revokedAccessTokenRepository.save(new RevokedAccessToken(tokenId, expiresAt));
+        synchronized (rebuildLock) {
+            revokedSinceRebuild.add(tokenId);
+            filter.put(tokenId);
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId)) return false;
+        return revokedSinceRebuild.contains(tokenId) || revokedAccessTokenRepository.existsById(tokenId);
+    }
+
+    /**
+     * Drops expired revocations and swaps in a filter sized for the ones left.
+     * Ids revoked while the database is read are carried over into the new filter.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${authorization.jwt.revocation.rebuild-interval:PT5M}")
+    public void rebuild() {
+        Set<String> revokedBeforeRead;
+        synchronized (rebuildLock) {
+            revokedBeforeRead = revokedSinceRebuild;
+            revokedSinceRebuild = ConcurrentHashMap.newKeySet();
+        }
+        var now = new Date();
+        var purged = revokedAccessTokenRepository.deleteExpired(now);
+        var tokenIds = revokedAccessTokenRepository.findTokenIdsExpiringAfter(now);
+        var rebuiltFilter = new BloomFilter(Math.max(expectedRevocations, 2 * tokenIds.size()), falsePositiveRate);
+        tokenIds.forEach(rebuiltFilter::put);
+        revokedBeforeRead.forEach(rebuiltFilter::put);
+        synchronized (rebuildLock) {
+            revokedSinceRebuild.forEach(rebuiltFilter::put);
+            filter = rebuiltFilter;
+        }
+        if (purged > 0) LOGGER.info("Purged {} expired access token revocations", purged);
+    }
+}
@@ -1,15 +1,15 @@
 package com.thecoders.cartunnbackend.iam.interfaces.acl;
 
+import com.thecoders.cartunnbackend.iam.domain.model.commands.ProvisionUsersCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignUpCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByIdQuery;
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByUsernameQuery;
 import com.thecoders.cartunnbackend.iam.domain.services.UserCommandService;
 import com.thecoders.cartunnbackend.iam.domain.services.UserQueryService;
 import org.apache.logging.log4j.util.Strings;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * IamContextFacade
@@ -18,15 +18,21 @@ import java.util.List;
  * for other bounded contexts to interact with the
  * IAM context.
  * This class is a part of the ACL layer.
+ * Lookups go through the {@link UserReferenceLoader} of the current request, so repeated
+ * lookups of the same users within a request are answered from memory.
  * </p>
  */
+@Service
 public class IamContextFacade {
     private final UserCommandService userCommandService;
     private final UserQueryService userQueryService;
+    private final UserReferenceLoader requestUserReferenceLoader;
 
-    public IamContextFacade(UserCommandService userCommandService, UserQueryService userQueryService) {
+    public IamContextFacade(UserCommandService userCommandService, UserQueryService userQueryService,
+                            UserReferenceLoader requestUserReferenceLoader) {
         this.userCommandService = userCommandService;
         this.userQueryService = userQueryService;
+        this.requestUserReferenceLoader = requestUserReferenceLoader;
     }
 
     /**
@@ -41,6 +47,7 @@ public class IamContextFacade {
         var result = userCommandService.handle(signUpCommand);
         if (result.isEmpty())
             return 0L;
+        userReferenceLoader().prime(result.get().getId(), result.get().getUsername());
         return result.get().getId();
     }
 
@@ -59,9 +66,32 @@ public class IamContextFacade {
         var result = userCommandService.handle(signUpCommand);
         if (result.isEmpty())
             return 0L;
+        userReferenceLoader().prime(result.get().getId(), result.get().getUsername());
         return result.get().getId();
     }
 
+    /**
+     * Creates many users with the same roles at once, hashing their passwords in parallel.
+     *
+     * @param passwordsByUsername The password of each user, by username.
+     * @param roleNames           The names of the roles of every user. When empty, users get the default role.
+     * @return The ids of the created users, by username. Usernames already taken are skipped and left out.
+     */
+    public Map<String, Long> createUsers(Map<String, String> passwordsByUsername, List<String> roleNames) {
+        var roles = roleNames != null ? roleNames.stream().map(Role::toRoleFromName).toList() : new ArrayList<Role>();
+        var signUpCommands = passwordsByUsername.entrySet().stream()
+                .map(entry -> new SignUpCommand(entry.getKey(), entry.getValue(), roles))
+                .toList();
+        var provisionedUsers = userCommandService.handle(new ProvisionUsersCommand(signUpCommands));
+        var userReferenceLoader = userReferenceLoader();
+        var userIdsByUsername = new LinkedHashMap<String, Long>();
+        provisionedUsers.created().forEach(user -> {
+            userReferenceLoader.prime(user.id(), user.username());
+            userIdsByUsername.put(user.username(), user.id());
+        });
+        return userIdsByUsername;
+    }
+
     /**
      * Fetches the id of the user with the given username.
      *
@@ -69,11 +99,17 @@ public class IamContextFacade {
      * @return The id of the user.
      */
     public Long fetchUserIdByUsername(String username) {
-        var getUserByUsernameQuery = new GetUserByUsernameQuery(username);
-        var result = userQueryService.handle(getUserByUsernameQuery);
-        if (result.isEmpty())
-            return 0L;
-        return result.get().getId();
+        return fetchUserIdsByUsernames(List.of(username)).getOrDefault(username, 0L);
+    }
+
+    /**
+     * Fetches the ids of the users with the given usernames in one query.
+     *
+     * @param usernames The usernames of the users.
+     * @return The id of each user, by username. Usernames that belong to no user are left out.
+     */
+    public Map<String, Long> fetchUserIdsByUsernames(Collection<String> usernames) {
+        return userReferenceLoader().loadUserIds(usernames);
     }
 
     /**
@@ -83,11 +119,25 @@ public class IamContextFacade {
      * @return The username of the user.
      */
     public String fetchUsernameByUserId(Long userId) {
-        var getUserByIdQuery = new GetUserByIdQuery(userId);
-        var result = userQueryService.handle(getUserByIdQuery);
-        if (result.isEmpty())
-            return Strings.EMPTY;
-        return result.get().getUsername();
+        return fetchUsernamesByUserIds(List.of(userId)).getOrDefault(userId, Strings.EMPTY);
     }
 
+    /**
+     * Fetches the usernames of the users with the given ids in one query.
+     *
+     * @param userIds The ids of the users.
+     * @return The username of each user, by id. Ids that belong to no user are left out.
+     */
+    public Map<Long, String> fetchUsernamesByUserIds(Collection<Long> userIds) {
+        return userReferenceLoader().loadUsernames(userIds);
+    }
+
+    /**
+     * The loader of the current request, or a fresh one when called outside a request,
+     * such as from a scheduled task, where there is no request to cache for.
+     */
+    private UserReferenceLoader userReferenceLoader() {
+        if (RequestContextHolder.getRequestAttributes() != null) return requestUserReferenceLoader;
+        return new UserReferenceLoader(userQueryService);
+    }
 }
@@ -0,0 +1,110 @@
+package com.thecoders.cartunnbackend.iam.interfaces.acl;
+
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByIdsQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByUsernamesQuery;
+import com.thecoders.cartunnbackend.iam.domain.services.UserQueryService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.*;
+
+/**
+ * UserReferenceLoader
+ * <p>
+ * Resolves user ids and usernames for the lifetime of one request.
+ * Every key not seen before is fetched in a single query per call, chunked to the query limits,
+ * and the answer is remembered, including keys that match no user, so a page that looks up the
+ * same users row by row or section by section reaches the database once.
+ * </p>
+ */
+@Component
+@RequestScope
+public class UserReferenceLoader {
+    private final UserQueryService userQueryService;
+    private final Map<Long, Optional<String>> usernamesByUserId = new HashMap<>();
+    private final Map<String, Optional<Long>> userIdsByUsername = new HashMap<>();
+
+    public UserReferenceLoader(UserQueryService userQueryService) {
+        this.userQueryService = userQueryService;
+    }
+
+    /**
+     * @return the username of each given id that belongs to a user
+     */
+    public synchronized Map<Long, String> loadUsernames(Collection<Long> userIds) {
+        var missingIds = missingKeys(userIds, usernamesByUserId);
+        for (var chunk : chunks(missingIds, GetUserSummariesByIdsQuery.MAX_IDS)) {
+            chunk.forEach(userId -> usernamesByUserId.putIfAbsent(userId, Optional.empty()));
+            userQueryService.handle(new GetUserSummariesByIdsQuery(chunk)).forEach(this::remember);
+        }
+        return resolve(userIds, usernamesByUserId);
+    }
+
+    /**
+     * Usernames are matched ignoring case, as the database compares them.
+     * @return the id of each given username that belongs to a user, keyed by the username as given
+     */
+    public synchronized Map<String, Long> loadUserIds(Collection<String> usernames) {
+        var usernameKeys = usernames.stream().filter(Objects::nonNull).map(UserReferenceLoader::usernameKey).toList();
+        var missingUsernameKeys = missingKeys(usernameKeys, userIdsByUsername);
+        for (var chunk : chunks(missingUsernameKeys, GetUserSummariesByUsernamesQuery.MAX_USERNAMES)) {
+            chunk.forEach(usernameKey -> userIdsByUsername.putIfAbsent(usernameKey, Optional.empty()));
+            userQueryService.handle(new GetUserSummariesByUsernamesQuery(chunk)).forEach(this::remember);
+        }
+        var resolved = new LinkedHashMap<String, Long>();
+        for (var username : usernames) {
+            if (username == null) continue;
+            userIdsByUsername.getOrDefault(usernameKey(username), Optional.empty())
+                    .ifPresent(userId -> resolved.put(username, userId));
+        }
+        return resolved;
+    }
+
+    /**
+     * Records a user created during the request, replacing a previous miss for its id or username.
+     */
+    public synchronized void prime(Long userId, String username) {
+        remember(new UserSummary(userId, username));
+    }
+
+    private void remember(UserSummary user) {
+        usernamesByUserId.put(user.id(), Optional.of(user.username()));
+        userIdsByUsername.put(usernameKey(user.username()), Optional.of(user.id()));
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> Set<K> missingKeys(Collection<K> keys, Map<K, ?> cache) {
+        var missingKeys = new LinkedHashSet<K>();
+        for (var key : keys) {
+            if (key != null && !cache.containsKey(key)) missingKeys.add(key);
+        }
+        return missingKeys;
+    }
+
+    private static <K> List<Set<K>> chunks(Set<K> keys, int chunkSize) {
+        var chunks = new ArrayList<Set<K>>();
+        var chunk = new HashSet<K>();
+        for (var key : keys) {
+            chunk.add(key);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) chunks.add(chunk);
+        return chunks;
+    }
+
+    private static <K, V> Map<K, V> resolve(Collection<K> keys, Map<K, Optional<V>> cache) {
+        var resolved = new LinkedHashMap<K, V>();
+        for (var key : keys) {
+            if (key == null) continue;
+            cache.getOrDefault(key, Optional.empty()).ifPresent(value -> resolved.put(key, value));
+        }
+        return resolved;
+    }
+}
@@ -2,21 +2,23 @@ package com.thecoders.cartunnbackend.iam.interfaces.rest;
 
 import com.thecoders.cartunnbackend.iam.domain.services.UserCommandService;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.AuthenticatedUserResource;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.RefreshTokenResource;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.SignInResource;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.SignUpResource;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.UserResource;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.AuthenticatedUserResourceFromEntityAssembler;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.RefreshTokenCommandFromResourceAssembler;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.SignInCommandFromResourceAssembler;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.SignOutCommandFromHeaderAssembler;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.SignUpCommandFromResourceAssembler;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping(value = "/api/v1/authentication", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -42,7 +44,31 @@ public class AuthenticationController {
         var signInCommand = SignInCommandFromResourceAssembler.toCommandFromResource(resource);
         var authenticatedUser = userCommandService.handle(signInCommand);
         if (authenticatedUser.isEmpty()) return ResponseEntity.notFound().build();
-        var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(authenticatedUser.get().getLeft(), authenticatedUser.get().getRight());
+        var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(authenticatedUser.get().getLeft(), authenticatedUser.get().getMiddle(), authenticatedUser.get().getRight());
         return ResponseEntity.ok(authenticatedUserResource);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenResource resource) {
+        var refreshTokenCommand = RefreshTokenCommandFromResourceAssembler.toCommandFromResource(resource);
+        try {
+            var authenticatedUser = userCommandService.handle(refreshTokenCommand);
+            if (authenticatedUser.isEmpty()) return ResponseEntity.badRequest().build();
+            var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(authenticatedUser.get().getLeft(), authenticatedUser.get().getMiddle(), authenticatedUser.get().getRight());
+            return ResponseEntity.ok(authenticatedUserResource);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResource(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/sign-out")
+    public ResponseEntity<MessageResource> signOut(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        var signOutCommand = SignOutCommandFromHeaderAssembler.toCommandFromAuthorizationHeader(authorization);
+        try {
+            userCommandService.handle(signOutCommand);
+            return ResponseEntity.ok(new MessageResource("Signed out successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResource(e.getMessage()));
+        }
+    }
 }
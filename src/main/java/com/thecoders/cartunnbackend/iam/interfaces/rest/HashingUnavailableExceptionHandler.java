@@ -0,0 +1,23 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest;
+
+import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingUnavailableException;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Sign-up, sign-in and user provisioning hash passwords on a bounded pool; when it is saturated they are rejected immediately.
+ */
+@RestControllerAdvice
+public class HashingUnavailableExceptionHandler {
+
+    @ExceptionHandler(HashingUnavailableException.class)
+    public ResponseEntity<MessageResource> handleHashingUnavailable(HashingUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new MessageResource(exception.getMessage()));
+    }
+}
@@ -1,36 +1,53 @@
 package com.thecoders.cartunnbackend.iam.interfaces.rest;
 
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllUsersQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByIdQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUsersPageQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.domain.services.UserCommandService;
 import com.thecoders.cartunnbackend.iam.domain.services.UserQueryService;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.ProvisionUsersResource;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.ProvisionedUsersResource;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.UserPageResource;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.UserResource;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.ProvisionUsersCommandFromResourceAssembler;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.ProvisionedUsersResourceFromProjectionAssembler;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.UserPageResourceFromProjectionAssembler;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping(value = "/api/v1/users", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Users", description = "User Management Endpoints")
 public class UsersController {
     private final UserQueryService userQueryService;
+    private final UserCommandService userCommandService;
 
-    public UsersController(UserQueryService userQueryService) {
+    public UsersController(UserQueryService userQueryService, UserCommandService userCommandService) {
         this.userQueryService = userQueryService;
+        this.userCommandService = userCommandService;
     }
 
     @GetMapping
-    public ResponseEntity<List<UserResource>> getAllUsers() {
-        var getAllUsersQuery = new GetAllUsersQuery();
-        var users = userQueryService.handle(getAllUsersQuery);
-        var userResources = users.stream().map(UserResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(userResources);
+    public ResponseEntity<UserPageResource> getAllUsers(@RequestParam(defaultValue = "20") int limit,
+                                                        @RequestParam(required = false) Long after,
+                                                        @RequestParam(required = false) String username,
+                                                        @RequestParam(required = false) String role) {
+        GetUsersPageQuery getUsersPageQuery;
+        try {
+            var roleName = role == null || role.isBlank() ? null : Roles.valueOf(role);
+            getUsersPageQuery = new GetUsersPageQuery(username, roleName, after, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var userPage = userQueryService.handle(getUsersPageQuery);
+        var userPageResource = UserPageResourceFromProjectionAssembler.toResourceFromProjection(userPage);
+        return ResponseEntity.ok(userPageResource);
     }
 
     @GetMapping("/{userId}")
@@ -41,4 +58,20 @@ public class UsersController {
         var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
         return ResponseEntity.ok(userResource);
     }
+
+    /**
+     * Creates many users at once; usernames already taken are skipped and reported.
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("@roleChecks.hasRole(authentication, 'ROLE_STAFF')")
+    public ResponseEntity<?> provisionUsers(@RequestBody ProvisionUsersResource resource) {
+        try {
+            var provisionUsersCommand = ProvisionUsersCommandFromResourceAssembler.toCommandFromResource(resource);
+            var provisionedUsers = userCommandService.handle(provisionUsersCommand);
+            var provisionedUsersResource = ProvisionedUsersResourceFromProjectionAssembler.toResourceFromProjection(provisionedUsers);
+            return new ResponseEntity<>(provisionedUsersResource, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResource(e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,6 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.resources;
+
+import java.util.List;
+
+public record ProvisionUsersResource(List<SignUpResource> users) {
+}
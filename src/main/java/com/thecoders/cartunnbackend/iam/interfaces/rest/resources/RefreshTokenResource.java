@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.resources;
+
+public record RefreshTokenResource(String refreshToken) {
+}
@@ -0,0 +1,16 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.iam.domain.model.commands.ProvisionUsersCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.SignUpCommand;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.ProvisionUsersResource;
+
+import java.util.List;
+
+public class ProvisionUsersCommandFromResourceAssembler {
+  public static ProvisionUsersCommand toCommandFromResource(ProvisionUsersResource resource) {
+    var users = resource.users() != null
+        ? resource.users().stream().map(SignUpCommandFromResourceAssembler::toCommandFromResource).toList()
+        : List.<SignUpCommand>of();
+    return new ProvisionUsersCommand(users);
+  }
+}
@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.iam.domain.model.projections.ProvisionedUsers;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.ProvisionedUsersResource;
+
+public class ProvisionedUsersResourceFromProjectionAssembler {
+  public static ProvisionedUsersResource toResourceFromProjection(ProvisionedUsers provisionedUsers) {
+    var created = provisionedUsers.created().stream().map(UserPageResourceFromProjectionAssembler::toResourceFromSummary).toList();
+    return new ProvisionedUsersResource(created, provisionedUsers.skippedUsernames());
+  }
+}
@@ -0,0 +1,10 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.iam.domain.model.commands.RefreshTokenCommand;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.RefreshTokenResource;
+
+public class RefreshTokenCommandFromResourceAssembler {
+  public static RefreshTokenCommand toCommandFromResource(RefreshTokenResource resource) {
+    return new RefreshTokenCommand(resource.refreshToken());
+  }
+}
@@ -0,0 +1,13 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.iam.domain.model.commands.SignOutCommand;
+
+public class SignOutCommandFromHeaderAssembler {
+  private static final String BEARER_TOKEN_PREFIX = "Bearer ";
+
+  public static SignOutCommand toCommandFromAuthorizationHeader(String authorizationHeader) {
+    if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_TOKEN_PREFIX))
+      return new SignOutCommand(null);
+    return new SignOutCommand(authorizationHeader.substring(BEARER_TOKEN_PREFIX.length()));
+  }
+}
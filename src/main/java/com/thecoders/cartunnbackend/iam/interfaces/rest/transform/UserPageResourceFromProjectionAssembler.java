@@ -0,0 +1,19 @@
+package com.thecoders.cartunnbackend.iam.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserPage;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.UserPageResource;
+import com.thecoders.cartunnbackend.iam.interfaces.rest.resources.UserResource;
+
+public class UserPageResourceFromProjectionAssembler {
+  public static UserPageResource toResourceFromProjection(UserPage page) {
+    var items = page.items().stream().map(UserPageResourceFromProjectionAssembler::toResourceFromSummary).toList();
+    return new UserPageResource(items, page.next().orElse(null));
+  }
+
+  public static UserResource toResourceFromSummary(UserSummary summary) {
+    var roles = summary.roles().stream().map(Roles::name).toList();
+    return new UserResource(summary.id(), summary.username(), roles);
+  }
+}
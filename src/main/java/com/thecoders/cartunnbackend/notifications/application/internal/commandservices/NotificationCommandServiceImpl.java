@@ -8,7 +8,10 @@ import com.thecoders.cartunnbackend.notifications.domain.services.NotificationCo
 import com.thecoders.cartunnbackend.notifications.infrastructure.persitence.jpa.repositories.NotificationRepository;
 import com.thecoders.cartunnbackend.product.domain.model.commands.RequestFavoriteCommand;
 import com.thecoders.cartunnbackend.purchasing.infrastructure.persitence.jpa.repositories.PurchasingOrderRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -22,27 +25,23 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
     }
 
     @Override
-    public Long handle(CreateNotificationCommand command) {
+    public Optional<Notification> handle(CreateNotificationCommand command) {
         var order = purchasingOrderRepository.findById(command.orderId())
                 .orElseThrow(() -> new IllegalArgumentException("Order does not exist"));
-        if (notificationRepository.existsByType(command.type())) {
-            throw new IllegalArgumentException("Notification with same type already exists");
-        }
         var notification = new Notification(command, order);
         try {
-            Notification savedNotification = notificationRepository.save(notification);
-            return savedNotification.getId();
+            return Optional.of(notificationRepository.saveAndFlush(notification));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Notification.TYPE_UNIQUE_CONSTRAINT, "Notification with same type already exists",
+                    "Error while saving notification");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving notification: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving notification", e);
         }
     }
 
 
     @Override
     public Optional<Notification> handle(UpdateNotificationCommand command) {
-        if (notificationRepository.existsByTypeAndIdIsNot(command.type(), command.id())) {
-            throw new IllegalArgumentException("Notification with same notification already exists");
-        }
         var result = notificationRepository.findById(command.id());
         if (result.isEmpty()) {
             throw new IllegalArgumentException("Notification does not exist");
@@ -50,22 +49,27 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
         var notificationToUpdate = result.get();
         try {
             notificationToUpdate.updateInformation(command.type(), command.description());
-            var updatedNotification = notificationRepository.save(notificationToUpdate);
+            var updatedNotification = notificationRepository.saveAndFlush(notificationToUpdate);
             return Optional.of(updatedNotification);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Notification.TYPE_UNIQUE_CONSTRAINT, "Notification with same type already exists",
+                    "Error while updating notification");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while updating notification: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating notification", e);
         }
     }
 
     @Override
+    @Transactional
     public void handle(DeleteNotificationCommand command) {
-        if (!notificationRepository.existsById(command.notificationId())) {
-            throw new IllegalArgumentException("Notification does not exist");
-        }
+        int deleted;
         try {
-            notificationRepository.deleteById(command.notificationId());
+            deleted = notificationRepository.deleteWhereId(command.notificationId());
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting order: " + e.getMessage());
+            throw new IllegalArgumentException("Error while deleting order", e);
+        }
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Notification does not exist");
         }
     }
 }
@@ -2,6 +2,7 @@ package com.thecoders.cartunnbackend.notifications.domain.model.aggregates;
 
 import com.thecoders.cartunnbackend.notifications.domain.model.commands.CreateNotificationCommand;
 import com.thecoders.cartunnbackend.purchasing.domain.model.aggregates.Order;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,8 +11,9 @@ import org.apache.logging.log4j.util.Strings;
 @Getter
 @Setter
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", uniqueConstraints = @UniqueConstraint(name = Notification.TYPE_UNIQUE_CONSTRAINT, columnNames = "type"))
 public class Notification {
+    public static final String TYPE_UNIQUE_CONSTRAINT = "uk_notifications_type";
 
     @Getter
     @ManyToOne
@@ -19,7 +21,7 @@ public class Notification {
     private Order order;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIdGenerator.NAME)
     private Long id;
 
     @Column(name = "type", nullable = false)
@@ -7,7 +7,7 @@ import com.thecoders.cartunnbackend.notifications.domain.model.commands.UpdateNo
 import java.util.Optional;
 
 public interface NotificationCommandService {
-    Long handle(CreateNotificationCommand command);
+    Optional<Notification> handle(CreateNotificationCommand command);
     Optional<Notification> handle(UpdateNotificationCommand command);
     void handle(DeleteNotificationCommand command);
 }
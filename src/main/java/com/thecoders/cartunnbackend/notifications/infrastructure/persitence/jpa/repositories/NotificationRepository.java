@@ -2,6 +2,8 @@ package com.thecoders.cartunnbackend.notifications.infrastructure.persitence.jpa
 
 import com.thecoders.cartunnbackend.notifications.domain.model.aggregates.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,8 +11,10 @@ import java.util.Optional;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     Optional<Notification> findByType(String type);
-    boolean existsByType(String type);
-    boolean existsByTypeAndIdIsNot(String title, Long id);
     List<Notification> findAllByOrderId(Long orderId);
     List<Notification> findByOrderId(Long orderId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("delete from Notification n where n.id = :id")
+    int deleteWhereId(Long id);
+}
@@ -4,7 +4,6 @@ package com.thecoders.cartunnbackend.notifications.interfaces.rest;
 import com.thecoders.cartunnbackend.notifications.domain.model.commands.DeleteNotificationCommand;
 import com.thecoders.cartunnbackend.notifications.domain.model.queries.GetAllNotificationsQuery;
 import com.thecoders.cartunnbackend.notifications.domain.model.queries.GetNotificationByIdQuery;
-import com.thecoders.cartunnbackend.notifications.domain.model.queries.GetNotificationByOrderIdQuery;
 import com.thecoders.cartunnbackend.notifications.domain.services.NotificationCommandService;
 import com.thecoders.cartunnbackend.notifications.domain.services.NotificationQueryService;
 import com.thecoders.cartunnbackend.notifications.interfaces.rest.resources.CreateNotificationResource;
@@ -36,14 +35,11 @@ public class NotificationsController {
     @PostMapping
     public ResponseEntity<NotificationResource> createNotification(@RequestBody CreateNotificationResource createNotificationResource) {
         var createNotificationCommand = CreateNotificationCommandFromResourceAssembler.toCommandFromResource(createNotificationResource);
-        var notificationId = notificationCommandService.handle(createNotificationCommand);
-       System.out.println("notificationId: " + notificationId);
-        var getNotificationByOrderIdQuery = new GetNotificationByOrderIdQuery(createNotificationResource.orderId());
-        var notification = notificationQueryService.handle(getNotificationByOrderIdQuery);
+        var notification = notificationCommandService.handle(createNotificationCommand);
         if (notification.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
-        var notificationResource = NotificationResourceFromEntityAssembler.toResourceFromEntity(notification.get(0));
+        var notificationResource = NotificationResourceFromEntityAssembler.toResourceFromEntity(notification.get());
         return new ResponseEntity<>(notificationResource, HttpStatus.CREATED);
     }
 
@@ -1,29 +1,45 @@
 package com.thecoders.cartunnbackend.payment.application.internal.commandservices;
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.AddCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.CreateCartCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.DeleteCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.RemoveCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.UpdateCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.domain.model.valueobjects.CartItemId;
 import com.thecoders.cartunnbackend.payment.domain.services.CartCommandService;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartItemRepository;
 import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Service
 public class CartCommandServiceImpl implements CartCommandService {
     private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductQueryService productQueryService;
 
-    public CartCommandServiceImpl(CartRepository cartRepository) {this.cartRepository = cartRepository;}
+    public CartCommandServiceImpl(CartRepository cartRepository,
+                                  CartItemRepository cartItemRepository,
+                                  ProductQueryService productQueryService) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.productQueryService = productQueryService;
+    }
 
     @Override
-    public Long handle(CreateCartCommand command) {
+    public Optional<Cart> handle(CreateCartCommand command) {
         var cart = new Cart(command);
         try {
-            Cart savedCart = cartRepository.save(cart);
-            return savedCart.getId();
+            return Optional.of(cartRepository.save(cart));
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving cart: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving cart", e);
         }
     }
     @Override
@@ -38,18 +54,43 @@ public class CartCommandServiceImpl implements CartCommandService {
                     command.payment(),command.products()));
             return Optional.of(updatedCart);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while updating cart: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating cart", e);
         }
     }
     @Override
+    @Transactional
     public void handle(DeleteCartCommand command) {
-        if (!cartRepository.existsById(command.cartId())) {
+        int deleted;
+        try {
+            cartItemRepository.deleteByCartId(command.cartId());
+            deleted = cartRepository.deleteWhereId(command.cartId());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error while deleting cart", e);
+        }
+        if (deleted == 0) {
             throw new IllegalArgumentException("Cart does not exist");
         }
+    }
+
+    @Override
+    @Transactional
+    public Optional<CartItem> handle(AddCartItemCommand command) {
+        // Adding to a line is a single upsert; the cart and product are only looked up when a foreign key rejects it
         try {
-            cartRepository.deleteById(command.cartId());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting cart: " + e.getMessage());
+            cartItemRepository.upsertQuantity(command.cartId(), command.productId(), command.quantity());
+        } catch (DataIntegrityViolationException e) {
+            if (!cartRepository.existsById(command.cartId())) throw new IllegalArgumentException("Cart does not exist");
+            if (productQueryService.handle(new GetProductByIdQuery(command.productId())).isEmpty())
+                throw new IllegalArgumentException("Product does not exist");
+            throw new IllegalArgumentException("Error while adding cart item", e);
+        }
+        return cartItemRepository.findById(new CartItemId(command.cartId(), command.productId()));
+    }
+    @Override
+    @Transactional
+    public void handle(RemoveCartItemCommand command) {
+        if (cartItemRepository.deleteByCartIdAndProductId(command.cartId(), command.productId()) == 0) {
+            throw new IllegalArgumentException("Cart item does not exist");
         }
     }
 
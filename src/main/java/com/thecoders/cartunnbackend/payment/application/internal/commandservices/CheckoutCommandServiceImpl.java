@@ -0,0 +1,51 @@
+package com.thecoders.cartunnbackend.payment.application.internal.commandservices;
+
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CheckoutCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.services.CheckoutCommandService;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.PaymentRepository;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Service
+public class CheckoutCommandServiceImpl implements CheckoutCommandService {
+    private final CartRepository cartRepository;
+    private final PaymentRepository paymentRepository;
+    private final ProductQueryService productQueryService;
+
+    public CheckoutCommandServiceImpl(CartRepository cartRepository,
+                                      PaymentRepository paymentRepository,
+                                      ProductQueryService productQueryService) {
+        this.cartRepository = cartRepository;
+        this.paymentRepository = paymentRepository;
+        this.productQueryService = productQueryService;
+    }
+
+    /**
+     * Resolves the products, then stores payment and cart in a single transaction.
+     * The returned cart is the persisted instance, so callers do not need to read it back.
+     */
+    @Override
+    @Transactional
+    public Cart handle(CheckoutCartCommand command) {
+        var products = resolveProducts(command.productIds());
+        var payment = paymentRepository.save(new Payment(command.payment()));
+        return cartRepository.save(new Cart(command.total(), payment, products));
+    }
+
+    private Set<Product> resolveProducts(Set<Long> productIds) {
+        if (productIds.isEmpty()) return new HashSet<>();
+        var productBatch = productQueryService.handle(new GetProductsByIdsQuery(productIds));
+        if (!productBatch.isComplete())
+            throw new IllegalArgumentException("Products not found: " + productBatch.missingIds().stream().sorted().toList());
+        return new HashSet<>(productBatch.products());
+    }
+}
@@ -9,6 +9,7 @@ import com.thecoders.cartunnbackend.payment.domain.model.commands.UpdatePaymentC
 import com.thecoders.cartunnbackend.payment.domain.services.PaymentCommandService;
 import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.PaymentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 @Service
@@ -20,13 +21,12 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
     }
 
     @Override
-    public Long handle(CreatePaymentCommand command) {
+    public Optional<Payment> handle(CreatePaymentCommand command) {
         var payment = new Payment(command);
         try {
-            Payment savedPayment = paymentRepository.save(payment);
-            return savedPayment.getId();
+            return Optional.of(paymentRepository.save(payment));
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving payment: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving payment", e);
         }
     }
 
@@ -46,18 +46,20 @@ public class PaymentCommandServiceImpl implements PaymentCommandService {
             var updatedProfile = paymentRepository.save(paymentToUpdated);
             return Optional.of(updatedProfile);
         } catch (Exception e){
-            throw new IllegalArgumentException("Error while updating payment: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating payment", e);
         }
     }
     @Override
+    @Transactional
     public void handle(DeletePaymentCommand command) {
-        if (!paymentRepository.existsById(command.PaymentId())) {
-            throw new IllegalArgumentException("Cart does not exist");
-        }
+        int deleted;
         try {
-            paymentRepository.deleteById(command.PaymentId());
+            deleted = paymentRepository.deleteWhereId(command.PaymentId());
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting cart: " + e.getMessage());
+            throw new IllegalArgumentException("Error while deleting cart", e);
+        }
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Cart does not exist");
         }
     }
 }
@@ -1,10 +1,13 @@
 package com.thecoders.cartunnbackend.payment.application.internal.queryservices;
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.projections.CartPage;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.GetAllCartsQuery;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartByIdQuery;
+import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartsPageQuery;
 import com.thecoders.cartunnbackend.payment.domain.services.CartQueryService;
 import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,5 +23,17 @@ public class CartQueryServiceImpl implements CartQueryService {
     public Optional<Cart> handle(GetCartByIdQuery query) {return cartRepository.findById(query.CartId());}
     @Override
     public List<Cart> handle(GetAllCartsQuery query) {return cartRepository.findAll();}
+    @Override
+    public CartPage handle(GetCartsPageQuery query) {
+        var limit = Limit.of(query.limit() + 1);
+        var ids = query.afterId() == null
+                ? cartRepository.findIds(limit)
+                : cartRepository.findIdsAfter(query.afterId(), limit);
+        var hasNext = ids.size() > query.limit();
+        if (hasNext) ids = ids.subList(0, query.limit());
+        if (ids.isEmpty()) return new CartPage(List.of(), null);
+        var carts = cartRepository.findAllByIdIn(ids);
+        return new CartPage(carts, hasNext ? ids.get(ids.size() - 1) : null);
+    }
 
 }
@@ -1,6 +1,7 @@
 package com.thecoders.cartunnbackend.payment.domain.model.aggregates;
 
 import com.thecoders.cartunnbackend.payment.domain.model.commands.CreateCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -8,8 +9,10 @@ import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbst
 import lombok.Setter;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -21,11 +24,8 @@ public class Cart extends AuditableAbstractAggregateRoot<Cart>{
     @Column(name = "total", nullable = false)
     private BigDecimal total;
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(name = "cart_product",
-    joinColumns = @JoinColumn(name = "cart_id"),
-            inverseJoinColumns = @JoinColumn(name = "product_id"))
-    private Set<Product> assignedProducts= new HashSet<>();
+    @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<CartItem> items = new ArrayList<>();
     public Cart() {
         this.total = BigDecimal.ZERO;
         this.payment = new Payment();
@@ -35,20 +35,21 @@ public class Cart extends AuditableAbstractAggregateRoot<Cart>{
         this();
         this.total = total;
         this.payment=payment;
-        this.assignedProducts=products;
-
+        products.forEach(product -> this.items.add(new CartItem(this, product, 1)));
     }
     public Cart(CreateCartCommand command) {
-        this();
-        this.total = command.total();
-        this.payment=command.payment();
-        this.assignedProducts=command.products();
+        this(command.total(), command.payment(), command.products());
     }
     public Cart updateInformation(BigDecimal total, Payment payment,Set<Product> products) {
         this.total = total;
         this.payment=payment;
-        //for(int i=0;i<products.size())
-        this.assignedProducts=products;
+        // Lines of removed products are deleted as orphans, kept lines keep their quantity and new products start at 1
+        var productIds = products.stream().map(Product::getId).collect(Collectors.toSet());
+        this.items.removeIf(item -> !productIds.contains(item.getProductId()));
+        var assignedProductIds = this.items.stream().map(CartItem::getProductId).collect(Collectors.toSet());
+        products.stream()
+                .filter(product -> !assignedProductIds.contains(product.getId()))
+                .forEach(product -> this.items.add(new CartItem(this, product, 1)));
         return this;
     }
 }
@@ -0,0 +1,8 @@
+package com.thecoders.cartunnbackend.payment.domain.model.commands;
+
+public record AddCartItemCommand(Long cartId, Long productId, Integer quantity) {
+    public AddCartItemCommand {
+        if (quantity == null) quantity = 1;
+        if (quantity < 1) throw new IllegalArgumentException("Quantity must be at least 1");
+    }
+}
@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.payment.domain.model.commands;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+public record CheckoutCartCommand(BigDecimal total, CreatePaymentCommand payment, Set<Long> productIds) {
+    public CheckoutCartCommand {
+        if (payment == null) throw new IllegalArgumentException("Payment is required");
+        productIds = productIds == null ? Set.of() : productIds;
+    }
+}
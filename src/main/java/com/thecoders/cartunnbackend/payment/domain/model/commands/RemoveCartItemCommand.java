@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.payment.domain.model.commands;
+
+public record RemoveCartItemCommand(Long cartId, Long productId) {
+}
@@ -0,0 +1,57 @@
+package com.thecoders.cartunnbackend.payment.domain.model.entities;
+
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.valueobjects.CartItemId;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * A product line of a cart and the only mapping of the cart_product table.
+ * Carts reach their lines through Cart.items, which owns their lifecycle.
+ */
+@Getter
+@Entity
+@Table(name = "cart_product")
+public class CartItem {
+    @EmbeddedId
+    private CartItemId id;
+
+    @MapsId("cartId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cart_id")
+    private Cart cart;
+
+    @MapsId("productId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private Integer quantity;
+
+    public CartItem() {
+        this.quantity = 1;
+    }
+
+    public CartItem(Cart cart, Product product, Integer quantity) {
+        this.id = new CartItemId(cart.getId(), product.getId());
+        this.cart = cart;
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    public Long getCartId() {
+        return id.getCartId();
+    }
+
+    public Long getProductId() {
+        return id.getProductId();
+    }
+
+    public void increaseQuantity(Integer quantity) {
+        this.quantity += quantity;
+    }
+}
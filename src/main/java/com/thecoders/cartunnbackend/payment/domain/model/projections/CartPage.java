@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.payment.domain.model.projections;
+
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+
+import java.util.List;
+import java.util.Optional;
+
+public record CartPage(List<Cart> items, Long nextCursor) {
+    public Optional<Long> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
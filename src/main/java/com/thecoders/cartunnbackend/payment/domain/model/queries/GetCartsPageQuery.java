@@ -0,0 +1,10 @@
+package com.thecoders.cartunnbackend.payment.domain.model.queries;
+
+public record GetCartsPageQuery(Long afterId, int limit) {
+    public static final int MAX_LIMIT = 100;
+
+    public GetCartsPageQuery {
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+}
@@ -0,0 +1,27 @@
+package com.thecoders.cartunnbackend.payment.domain.model.valueobjects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+@Getter
+@EqualsAndHashCode
+@Embeddable
+public class CartItemId implements Serializable {
+    @Column(name = "cart_id")
+    private Long cartId;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    public CartItemId() {
+    }
+
+    public CartItemId(Long cartId, Long productId) {
+        this.cartId = cartId;
+        this.productId = productId;
+    }
+}
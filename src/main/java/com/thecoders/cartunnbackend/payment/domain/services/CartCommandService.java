@@ -1,14 +1,19 @@
 package com.thecoders.cartunnbackend.payment.domain.services;
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.AddCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.CreateCartCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.DeleteCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.RemoveCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.UpdateCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
 
 import java.util.Optional;
 
 public interface CartCommandService {
-    Long handle(CreateCartCommand command);
+    Optional<Cart> handle(CreateCartCommand command);
     Optional<Cart> handle(UpdateCartCommand command);
     void handle(DeleteCartCommand command);
+    Optional<CartItem> handle(AddCartItemCommand command);
+    void handle(RemoveCartItemCommand command);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.thecoders.cartunnbackend.payment.domain.services;
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.projections.CartPage;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.GetAllCartsQuery;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartByIdQuery;
+import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartsPageQuery;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,5 @@ import java.util.Optional;
 public interface CartQueryService {
     Optional<Cart> handle(GetCartByIdQuery query);
     List<Cart> handle(GetAllCartsQuery query);
+    CartPage handle(GetCartsPageQuery query);
 }
@@ -0,0 +1,8 @@
+package com.thecoders.cartunnbackend.payment.domain.services;
+
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CheckoutCartCommand;
+
+public interface CheckoutCommandService {
+    Cart handle(CheckoutCartCommand command);
+}
@@ -8,7 +8,7 @@ import com.thecoders.cartunnbackend.payment.domain.model.commands.UpdatePaymentC
 import java.util.Optional;
 
 public interface PaymentCommandService {
-    Long handle(CreatePaymentCommand command);
+    Optional<Payment> handle(CreatePaymentCommand command);
     Optional<Payment> handle(UpdatePaymentCommand command);
     void handle(DeletePaymentCommand command);
 }
@@ -0,0 +1,26 @@
+package com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.domain.model.valueobjects.CartItemId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CartItemRepository extends JpaRepository<CartItem, CartItemId> {
+    // A single statement, so concurrent adds of the same new line both land on one row instead of colliding on its key.
+    // The naming strategy pluralizes the cart_product table of CartItem to cart_products
+    @Modifying
+    @Query(value = "insert into cart_products (cart_id, product_id, quantity) values (:cartId, :productId, :quantity) " +
+            "on duplicate key update quantity = quantity + :quantity", nativeQuery = true)
+    int upsertQuantity(Long cartId, Long productId, Integer quantity);
+
+    @Modifying
+    @Query("delete from CartItem i where i.id.cartId = :cartId and i.id.productId = :productId")
+    int deleteByCartIdAndProductId(Long cartId, Long productId);
+
+    @Modifying
+    @Query("delete from CartItem i where i.id.cartId = :cartId")
+    int deleteByCartId(Long cartId);
+}
@@ -1,9 +1,15 @@
 package com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories;
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +17,27 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByTotal(BigDecimal total);
     boolean existsById(Long id);
     boolean existsByTotalAndIdIsNot(BigDecimal total, Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"payment", "items", "items.product"})
+    Optional<Cart> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"payment", "items", "items.product"})
+    List<Cart> findAll();
+
+    @Query("select c.id from Cart c order by c.id")
+    List<Long> findIds(Limit limit);
+
+    @Query("select c.id from Cart c where c.id > :afterId order by c.id")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    // Paging is done on ids first so the collection fetch join never has to be paginated in memory
+    @EntityGraph(attributePaths = {"payment", "items", "items.product"})
+    @Query("select c from Cart c where c.id in :ids order by c.id")
+    List<Cart> findAllByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Cart c where c.id = :id")
+    int deleteWhereId(Long id);
 }
@@ -2,6 +2,8 @@ package com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repo
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -10,4 +12,8 @@ public interface PaymentRepository extends JpaRepository<Payment,Long> {
     boolean existsByCardHolderAndIdIsNot(String cardHolder, Long paymentId);
 
     boolean existsByCardHolder(String cardHolder);
+
+    @Modifying
+    @Query("delete from Payment p where p.id = :id")
+    int deleteWhereId(Long id);
 }
@@ -1,19 +1,24 @@
 package com.thecoders.cartunnbackend.payment.interfaces.rest;
 
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.DeleteCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.RemoveCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.DeletePaymentCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.UpdatePaymentCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.*;
 import com.thecoders.cartunnbackend.payment.domain.services.CartCommandService;
 import com.thecoders.cartunnbackend.payment.domain.services.CartQueryService;
+import com.thecoders.cartunnbackend.payment.domain.services.CheckoutCommandService;
 import com.thecoders.cartunnbackend.payment.domain.services.PaymentCommandService;
-import com.thecoders.cartunnbackend.payment.domain.services.PaymentQueryService;
 import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.*;
 import com.thecoders.cartunnbackend.payment.interfaces.rest.transform.*;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
-import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
 import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
 import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,55 +37,31 @@ public class CartsController {
     private final ProductCommandService productCommandService;
     private final PaymentCommandService paymentCommandService;
     private final ProductQueryService productQueryService;
-    private final PaymentQueryService paymentQueryService;
+    private final CheckoutCommandService checkoutCommandService;
 
     public CartsController(CartCommandService cartCommandService,
                            CartQueryService cartQueryService,
                            ProductCommandService productCommandService,
                            PaymentCommandService paymentCommandService,
-                           PaymentQueryService paymentQueryService,
-                           ProductQueryService productQueryService) {
+                           ProductQueryService productQueryService,
+                           CheckoutCommandService checkoutCommandService) {
         this.cartCommandService = cartCommandService;
         this.cartQueryService = cartQueryService;
         this.productCommandService = productCommandService;
         this.paymentCommandService = paymentCommandService;
         this.productQueryService = productQueryService;
-        this.paymentQueryService = paymentQueryService;
+        this.checkoutCommandService = checkoutCommandService;
     }
     @PostMapping
-    public ResponseEntity<CartResource> createCart(@RequestBody RequestCartResource requestCartResource) {
-        var createPaymentCommand = CreatePaymentCommandFromResourceAssembler.toCommandFromResource(requestCartResource.payment());
-        var paymentId = paymentCommandService.handle(createPaymentCommand);
-        var getPaymentQuery = new GetPaymentByIdQuery(paymentId);
-        var payment =  paymentQueryService.handle(getPaymentQuery);
-        if (payment.isEmpty()) {
-            return ResponseEntity.badRequest().build();
-        }
-        Set<Product> products=new HashSet<>();
-        for (Long id : requestCartResource.productIds()) {
-            var getProductQuery = new GetProductByIdQuery(id);
-            var product =  productQueryService.handle(getProductQuery);
-            if (product.isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            else{
-                products.add(product.get());
-            }
+    public ResponseEntity<?> createCart(@RequestBody RequestCartResource requestCartResource) {
+        Cart cart;
+        try {
+            var checkoutCartCommand = CheckoutCartCommandFromResourceAssembler.toCommandFromResource(requestCartResource);
+            cart = checkoutCommandService.handle(checkoutCartCommand);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResource(e.getMessage()));
         }
-        CreateCartResource createCartResource = new CreateCartResource(requestCartResource.total(),
-                payment.get(),products);
-        var createCartCommand = CreateCartCommandFromResourceAssembler.toCommandFromResource(createCartResource);
-
-        var cartId = cartCommandService.handle(createCartCommand);
-        if (cartId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-        var getCartByIdQuery = new GetCartByIdQuery(cartId);
-        var cart = cartQueryService.handle(getCartByIdQuery);
-        if (cart.isEmpty()) {
-            return ResponseEntity.badRequest().build();
-        }
-        var cartResource = CartResourceFromEntityAssembler.toResourceFromEntity(cart.get());
+        var cartResource = CartResourceFromEntityAssembler.toResourceFromEntity(cart);
         return new ResponseEntity<>(cartResource, HttpStatus.CREATED);
     }
     @GetMapping("/{cartId}")
@@ -94,26 +75,31 @@ public class CartsController {
         return ResponseEntity.ok(responseCartResource);
     }
     @GetMapping
-    public ResponseEntity<List<ResponseCartResource>> getAllCarts() {
-        var getAllCartsQuery = new GetAllCartsQuery();
-        var carts = cartQueryService.handle(getAllCartsQuery);
-        var cartResources = carts.stream().map(ResponseCartFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(cartResources);
+    public ResponseEntity<CartPageResource> getAllCarts(@RequestParam(defaultValue = "20") int limit,
+                                                        @RequestParam(required = false) Long after) {
+        GetCartsPageQuery getCartsPageQuery;
+        try {
+            getCartsPageQuery = new GetCartsPageQuery(after, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var cartPage = cartQueryService.handle(getCartsPageQuery);
+        var cartPageResource = CartPageResourceFromProjectionAssembler.toResourceFromProjection(cartPage);
+        return ResponseEntity.ok(cartPageResource);
     }
     @PutMapping("/{cartId}")
-    public ResponseEntity<ResponseCartResource> updateCart(@PathVariable Long cartId,
-                                                           @RequestBody RequestUpdateCartResource requestUpdateCartResource) {
-        Set<Product> products=new HashSet<>();
-        for (Long id : requestUpdateCartResource.productIds()) {
-            var getProductQuery = new GetProductByIdQuery(id);
-            var product =  productQueryService.handle(getProductQuery);
-            if (product.isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            else{
-                products.add(product.get());
-            }
+    public ResponseEntity<?> updateCart(@PathVariable Long cartId,
+                                        @RequestBody RequestUpdateCartResource requestUpdateCartResource) {
+        ProductBatch productBatch;
+        try {
+            productBatch = fetchProducts(requestUpdateCartResource.productIds());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResource(e.getMessage()));
+        }
+        if (!productBatch.isComplete()) {
+            return ResponseEntity.badRequest().body(missingProductsMessage(productBatch.missingIds()));
         }
+        Set<Product> products = new HashSet<>(productBatch.products());
         var getCartByIdQuery = new GetCartByIdQuery(cartId);
         var cart = cartQueryService.handle(getCartByIdQuery);
         UpdateCartResource updateCartResource = new UpdateCartResource(requestUpdateCartResource.total(),
@@ -143,6 +129,44 @@ public class CartsController {
         paymentCommandService.handle(deletePaymentCommand);
         return ResponseEntity.ok("Cart deleted successfully");
     }
+    @PostMapping("/{cartId}/items/{productId}")
+    public ResponseEntity<?> addCartItem(@PathVariable Long cartId, @PathVariable Long productId,
+                                         @RequestBody(required = false) AddCartItemResource addCartItemResource) {
+        Optional<CartItem> cartItem;
+        try {
+            var addCartItemCommand = AddCartItemCommandFromResourceAssembler.toCommandFromResource(cartId, productId, addCartItemResource);
+            cartItem = cartCommandService.handle(addCartItemCommand);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResource(e.getMessage()));
+        }
+        if (cartItem.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        var cartItemResource = CartItemResourceFromEntityAssembler.toResourceFromEntity(cartItem.get());
+        return ResponseEntity.ok(cartItemResource);
+    }
+    @DeleteMapping("/{cartId}/items/{productId}")
+    public ResponseEntity<?> removeCartItem(@PathVariable Long cartId, @PathVariable Long productId) {
+        var removeCartItemCommand = new RemoveCartItemCommand(cartId, productId);
+        try {
+            cartCommandService.handle(removeCartItemCommand);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResource(e.getMessage()));
+        }
+        return ResponseEntity.ok("Cart item removed successfully");
+    }
+
+    private ProductBatch fetchProducts(Set<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return new ProductBatch(List.of(), Set.of());
+        }
+        return productQueryService.handle(new GetProductsByIdsQuery(productIds));
+    }
+
+    private static MessageResource missingProductsMessage(Set<Long> missingIds) {
+        return new MessageResource("Products not found: " + missingIds.stream().sorted().toList());
+    }
+
     /*@GetMapping
     public ResponseEntity<List<CartProductResource>> getAllCartProducts() {
         var getAllCartProductsQuery = new GetAllCartProductsQuery();
@@ -40,11 +40,7 @@ public class PaymentController {
     @PostMapping
     public ResponseEntity<PaymentResource> createPayment(@RequestBody CreatePaymentResource createPaymentResource) {
         var createPaymentCommand = CreatePaymentCommandFromResourceAssembler.toCommandFromResource(createPaymentResource);
-        var paymentId = paymentCommandService.handle(createPaymentCommand);
-        if (paymentId == 0L) return ResponseEntity.badRequest().build();
-
-        var getPaymentByIdQuery = new GetPaymentByIdQuery(paymentId);
-        var payment = paymentQueryService.handle(getPaymentByIdQuery);
+        var payment = paymentCommandService.handle(createPaymentCommand);
         if(payment.isEmpty()){
             return ResponseEntity.badRequest().build();
         }
@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.resources;
+
+public record AddCartItemResource(Integer quantity) {
+}
@@ -0,0 +1,6 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.resources;
+
+import java.util.List;
+
+public record CartPageResource(List<ResponseCartResource> items, Long nextCursor) {
+}
@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.resources;
+
+public record CartProductResource(Long id, String title, String description, String image, Double price, Integer quantity) {
+}
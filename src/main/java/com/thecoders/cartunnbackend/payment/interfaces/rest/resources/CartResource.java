@@ -1,10 +1,9 @@
 package com.thecoders.cartunnbackend.payment.interfaces.rest.resources;
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
-import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 
 import java.math.BigDecimal;
-import java.util.Set;
+import java.util.List;
 
-public record CartResource(Long id, BigDecimal total, Payment payment, Set<Product> assignedProducts) {
+public record CartResource(Long id, BigDecimal total, Payment payment, List<CartProductResource> assignedProducts) {
 }
@@ -1,9 +1,7 @@
 package com.thecoders.cartunnbackend.payment.interfaces.rest.resources;
 
-import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductResource;
-
 import java.math.BigDecimal;
-import java.util.Set;
+import java.util.List;
 
-public record ResponseCartResource(Long id, BigDecimal total, PaymentResource payment, Set<ProductResource> products) {
+public record ResponseCartResource(Long id, BigDecimal total, PaymentResource payment, List<CartProductResource> products) {
 }
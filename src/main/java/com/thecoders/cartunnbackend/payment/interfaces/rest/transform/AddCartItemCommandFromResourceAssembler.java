@@ -0,0 +1,10 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.payment.domain.model.commands.AddCartItemCommand;
+import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.AddCartItemResource;
+
+public class AddCartItemCommandFromResourceAssembler {
+    public static AddCartItemCommand toCommandFromResource(Long cartId, Long productId, AddCartItemResource resource) {
+        return new AddCartItemCommand(cartId, productId, resource == null ? null : resource.quantity());
+    }
+}
@@ -0,0 +1,10 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.CartItemResource;
+
+public class CartItemResourceFromEntityAssembler {
+    public static CartItemResource toResourceFromEntity(CartItem entity) {
+        return new CartItemResource(entity.getCartId(), entity.getProductId(), entity.getQuantity());
+    }
+}
@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.payment.domain.model.projections.CartPage;
+import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.CartPageResource;
+
+public class CartPageResourceFromProjectionAssembler {
+    public static CartPageResource toResourceFromProjection(CartPage page) {
+        var items = page.items().stream().map(ResponseCartFromEntityAssembler::toResourceFromEntity).toList();
+        return new CartPageResource(items, page.nextCursor());
+    }
+}
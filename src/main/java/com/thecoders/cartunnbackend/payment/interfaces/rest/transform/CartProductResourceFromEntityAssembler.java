@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.CartProductResource;
+
+public class CartProductResourceFromEntityAssembler {
+    public static CartProductResource toResourceFromEntity(CartItem entity) {
+        var product = entity.getProduct();
+        return new CartProductResource(product.getId(), product.getTitle(), product.getDescription(), product.getImage(),
+                product.getPrice(), entity.getQuantity());
+    }
+}
@@ -5,7 +5,7 @@ import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.CartResour
 
 public class CartResourceFromEntityAssembler {
     public static CartResource toResourceFromEntity(Cart entity) {
-
-        return new CartResource(entity.getId(), entity.getTotal(),entity.getPayment(),entity.getAssignedProducts());
+        var cartProductResources = entity.getItems().stream().map(CartProductResourceFromEntityAssembler::toResourceFromEntity).toList();
+        return new CartResource(entity.getId(), entity.getTotal(),entity.getPayment(),cartProductResources);
     }
 }
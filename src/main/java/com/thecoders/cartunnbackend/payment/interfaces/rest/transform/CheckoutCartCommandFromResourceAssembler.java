@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.payment.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CheckoutCartCommand;
+import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.RequestCartResource;
+
+public class CheckoutCartCommandFromResourceAssembler {
+    public static CheckoutCartCommand toCommandFromResource(RequestCartResource resource) {
+        var createPaymentCommand = resource.payment() == null ? null
+                : CreatePaymentCommandFromResourceAssembler.toCommandFromResource(resource.payment());
+        return new CheckoutCartCommand(resource.total(), createPaymentCommand, resource.productIds());
+    }
+}
@@ -9,6 +9,9 @@ import com.thecoders.cartunnbackend.product.domain.services.FavoriteCommandServi
 import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.FavoriteRepository;
 import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 
 @Service
@@ -22,22 +25,23 @@ public class FavoriteCommandServiceImpl implements FavoriteCommandService {
         this.productRepository= productRepository;
     }
 
-    public Long handle(RequestFavoriteCommand command){
+    public Optional<Favorite> handle(RequestFavoriteCommand command){
         Product product = productRepository.findById(command.productId()).orElseThrow(() -> new ProductNotFoundException(command.productId()));
         Favorite favorite = new Favorite( product);
-        favorite = favoriteRepository.save(favorite);
-        return favorite.getId();
+        return Optional.of(favoriteRepository.save(favorite));
 
     }
     @Override
+    @Transactional
     public void handle(DeleteFavoriteCommand command) {
-        if (!favoriteRepository.existsById(command.favoriteId())) {
-            throw new IllegalArgumentException("Favorite does not exist");
-        }
+        int deleted;
         try {
-            favoriteRepository.deleteById(command.favoriteId());
+            deleted = favoriteRepository.deleteWhereId(command.favoriteId());
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting favorite: " + e.getMessage());
+            throw new IllegalArgumentException("Error while deleting favorite", e);
+        }
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Favorite does not exist");
         }
     }
 
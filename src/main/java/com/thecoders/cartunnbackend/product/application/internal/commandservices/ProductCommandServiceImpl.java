@@ -1,57 +1,145 @@
 package com.thecoders.cartunnbackend.product.application.internal.commandservices;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.UpdateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.events.ProductDeletedEvent;
+import com.thecoders.cartunnbackend.product.domain.model.events.ProductSavedEvent;
+import com.thecoders.cartunnbackend.product.domain.model.projections.CreatedProducts;
 import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
 import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.caching.configuration.CachingConfiguration;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductCommandServiceImpl implements ProductCommandService {
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductCommandServiceImpl(ProductRepository productRepository) {this.productRepository = productRepository;}
+    public ProductCommandServiceImpl(ProductRepository productRepository, ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
 
     @Override
-    public Long handle(CreateProductCommand command) {
-        if (productRepository.existsByTitle(command.title())) {
-            throw new IllegalArgumentException("Product with same title already exists");
-        }
+    @Transactional
+    public Optional<Product> handle(CreateProductCommand command) {
         var product = new Product(command);
         try {
-            productRepository.save(product);
+            productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Product.TITLE_UNIQUE_CONSTRAINT, "Product with same title already exists",
+                    "Error while saving product");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving product: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving product", e);
         }
-        return product.getId();
+        eventPublisher.publishEvent(new ProductSavedEvent(product));
+        return Optional.of(product);
+    }
+
+    /**
+     * Looks up the titles already taken with a single query and inserts the remaining products,
+     * which the pooled ids let Hibernate send as JDBC batches. The inserted products are left detached,
+     * so importing many chunks in one request does not grow its persistence context.
+     * Titles are compared ignoring case, as the title column is.
+     */
+    @Override
+    @Transactional
+    public CreatedProducts handle(CreateProductsCommand command) {
+        var titles = command.products().stream().map(CreateProductCommand::title).toList();
+        var existingTitles = productRepository.findExistingTitles(titles).stream()
+                .map(ProductCommandServiceImpl::normalizedTitle)
+                .collect(Collectors.toSet());
+        var products = command.products().stream()
+                .filter(product -> !isTaken(product.title(), existingTitles))
+                .map(Product::new)
+                .toList();
+        try {
+            productRepository.insertAll(products);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Product.TITLE_UNIQUE_CONSTRAINT, "Product with same title already exists",
+                    "Error while saving products");
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error while saving products", e);
+        }
+        products.forEach(product -> eventPublisher.publishEvent(new ProductSavedEvent(product)));
+        var skippedTitles = titles.stream().filter(title -> isTaken(title, existingTitles)).toList();
+        return new CreatedProducts(products.size(), skippedTitles);
+    }
+
+    private static boolean isTaken(String title, Set<String> normalizedTitles) {
+        return title != null && normalizedTitles.contains(normalizedTitle(title));
+    }
+
+    private static String normalizedTitle(String title) {
+        return title.toLowerCase(Locale.ROOT);
     }
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CachingConfiguration.PRODUCTS_CACHE, key = "#command.id()")
     public Optional<Product> handle(UpdateProductCommand command) {
-        if (productRepository.existsByTitleAndIdIsNot(command.title(), command.id()))
-            throw new IllegalArgumentException("Product with same title already exists");
         var result = productRepository.findById(command.id());
         if (result.isEmpty()) throw new IllegalArgumentException("Product does not exist");
         var productToUpdate = result.get();
         try {
-            var updatedProduct = productRepository.save(productToUpdate.updateInformation(command.title(), command.description(), command.image(), command.price()));
+            var updatedProduct = productRepository.saveAndFlush(productToUpdate.updateInformation(command.title(), command.description(), command.image(), command.price()));
+            eventPublisher.publishEvent(new ProductSavedEvent(updatedProduct));
             return Optional.of(updatedProduct);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Product.TITLE_UNIQUE_CONSTRAINT, "Product with same title already exists",
+                    "Error while updating product");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while updating product: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating product", e);
         }
     }
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CachingConfiguration.PRODUCTS_CACHE, key = "#command.productId()")
     public void handle(DeleteProductCommand command) {
-        if (!productRepository.existsById(command.productId())) {
+        int deleted;
+        try {
+            deleted = productRepository.deleteWhereId(command.productId());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error while deleting product", e);
+        }
+        if (deleted == 0) {
             throw new IllegalArgumentException("Product does not exist");
         }
+        eventPublisher.publishEvent(new ProductDeletedEvent(command.productId()));
+    }
+
+    /**
+     * Selects the requested ids that exist, deletes them in one statement and returns how many products it removed.
+     * Only those ids are announced as deleted.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CachingConfiguration.PRODUCTS_CACHE, allEntries = true)
+    public int handle(DeleteProductsCommand command) {
+        List<Long> existingIds;
+        int deleted;
         try {
-            productRepository.deleteById(command.productId());
+            existingIds = productRepository.findIdsForUpdateByIdIn(command.productIds());
+            if (existingIds.isEmpty()) return 0;
+            deleted = productRepository.deleteWhereIdIn(existingIds);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting product: " + e.getMessage());
+            throw new IllegalArgumentException("Error while deleting products", e);
         }
+        existingIds.forEach(productId -> eventPublisher.publishEvent(new ProductDeletedEvent(productId)));
+        return deleted;
     }
 
 
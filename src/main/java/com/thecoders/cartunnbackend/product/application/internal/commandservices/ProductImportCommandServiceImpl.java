@@ -0,0 +1,63 @@
+package com.thecoders.cartunnbackend.product.application.internal.commandservices;
+
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.ImportProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ImportedProducts;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportError;
+import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
+import com.thecoders.cartunnbackend.product.domain.services.ProductImportCommandService;
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts each chunk through ProductCommandService, so every chunk runs in its own transaction
+ * and a failing chunk only fails its own rows. Rows whose title is already taken are skipped.
+ */
+@Service
+public class ProductImportCommandServiceImpl implements ProductImportCommandService {
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ProductCommandService productCommandService;
+
+    public ProductImportCommandServiceImpl(ProductCommandService productCommandService) {
+        this.productCommandService = productCommandService;
+    }
+
+    @Override
+    public ImportedProducts handle(ImportProductsCommand command) {
+        var started = System.nanoTime();
+        int imported = 0, skipped = 0, failed = 0;
+        var errors = new ArrayList<ProductImportError>();
+        while (command.chunks().hasNext()) {
+            var chunk = command.chunks().next();
+            failed += chunk.errors().size();
+            chunk.errors().forEach(error -> report(errors, error));
+            if (chunk.rows().isEmpty()) continue;
+            try {
+                var createdProducts = productCommandService.handle(new CreateProductsCommand(chunk.commands()));
+                imported += createdProducts.created();
+                var skippedTitles = new HashSet<>(createdProducts.skippedTitles());
+                for (var row : chunk.rows()) {
+                    if (!skippedTitles.contains(row.command().title())) continue;
+                    skipped++;
+                    report(errors, new ProductImportError(row.line(), row.command().title(), "Product with same title already exists"));
+                }
+            } catch (ResourceConflictException | IllegalArgumentException e) {
+                failed += chunk.rows().size();
+                chunk.rows().forEach(row -> report(errors, new ProductImportError(row.line(), row.command().title(), e.getMessage())));
+            }
+        }
+        var elapsedNanos = Math.max(System.nanoTime() - started, 1);
+        var rowsPerSecond = (imported + skipped + failed) * 1e9 / elapsedNanos;
+        return new ImportedProducts(imported, skipped, failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond, errors);
+    }
+
+    private static void report(List<ProductImportError> errors, ProductImportError error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) errors.add(error);
+    }
+}
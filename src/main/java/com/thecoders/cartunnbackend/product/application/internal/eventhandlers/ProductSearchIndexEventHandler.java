@@ -0,0 +1,57 @@
+package com.thecoders.cartunnbackend.product.application.internal.eventhandlers;
+
+import com.thecoders.cartunnbackend.product.application.internal.outboundservices.search.ProductSearchService;
+import com.thecoders.cartunnbackend.product.domain.model.events.ProductDeletedEvent;
+import com.thecoders.cartunnbackend.product.domain.model.events.ProductSavedEvent;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Builds the product search index once all singletons exist, before the web server accepts requests,
+ * so no product can be saved or deleted while the startup scan is reading, and keeps it current from
+ * the product events afterwards.
+ */
+@Service
+public class ProductSearchIndexEventHandler implements SmartInitializingSingleton {
+    private static final int INDEXING_BATCH_SIZE = 500;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductSearchIndexEventHandler.class);
+
+    private final ProductRepository productRepository;
+    private final ProductSearchService productSearchService;
+
+    public ProductSearchIndexEventHandler(ProductRepository productRepository, ProductSearchService productSearchService) {
+        this.productRepository = productRepository;
+        this.productSearchService = productSearchService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LOGGER.info("Starting to build the product search index");
+        var limit = Limit.of(INDEXING_BATCH_SIZE);
+        var batch = productRepository.findSummariesOrderByCreatedAt(limit);
+        var indexed = 0;
+        while (!batch.isEmpty()) {
+            batch.forEach(productSearchService::index);
+            indexed += batch.size();
+            var last = batch.get(batch.size() - 1);
+            batch = productRepository.findSummariesOrderByCreatedAtAfter(last.createdAt(), last.id(), limit);
+        }
+        LOGGER.info("Product search index built with {} products", indexed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductSavedEvent event) {
+        productSearchService.index(ProductSummary.of(event.product()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductDeletedEvent event) {
+        productSearchService.remove(event.productId());
+    }
+}
@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.application.internal.outboundservices.search;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+
+public interface ProductSearchService {
+    void index(ProductSummary product);
+
+    void remove(Long productId);
+
+    ProductSearchPage search(String text, int offset, int limit);
+}
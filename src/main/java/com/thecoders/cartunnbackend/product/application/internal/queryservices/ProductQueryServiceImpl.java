@@ -1,27 +1,89 @@
 package com.thecoders.cartunnbackend.product.application.internal.queryservices;
 
+import com.thecoders.cartunnbackend.product.application.internal.outboundservices.search.ProductSearchService;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllProductsQuery;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsPageQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.SearchProductsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
 import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
 import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.caching.configuration.CachingConfiguration;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
 
 @Service
 public class ProductQueryServiceImpl implements ProductQueryService {
+    private static final int LOOKUP_CHUNK_SIZE = 100;
 
     private final ProductRepository productRepository;
+    private final ProductSearchService productSearchService;
 
-    public ProductQueryServiceImpl(ProductRepository productRepository) {this.productRepository = productRepository;}
+    public ProductQueryServiceImpl(ProductRepository productRepository, ProductSearchService productSearchService) {
+        this.productRepository = productRepository;
+        this.productSearchService = productSearchService;
+    }
 
+    /**
+     * Caches the immutable summary rather than the entity, so cached values can be shared across requests.
+     */
     @Override
-    public Optional<Product> handle(GetProductByIdQuery query) {return productRepository.findById(query.productId());}
+    @Cacheable(cacheNames = CachingConfiguration.PRODUCTS_CACHE, key = "#query.productId()", unless = "#result == null")
+    public Optional<ProductSummary> handle(GetProductByIdQuery query) {return productRepository.findSummaryById(query.productId());}
     @Override
     public List<Product> handle(GetAllProductsQuery query) {return productRepository.findAll();}
 
+    /**
+     * Loads any number of ids, split into chunks so that each IN list stays small.
+     */
+    @Override
+    public ProductBatch handle(GetProductsByIdsQuery query) {
+        var productIds = List.copyOf(query.productIds());
+        var products = new ArrayList<Product>(productIds.size());
+        for (int from = 0; from < productIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            products.addAll(productRepository.findAllById(productIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, productIds.size()))));
+        }
+        var missingIds = new HashSet<>(query.productIds());
+        products.forEach(product -> missingIds.remove(product.getId()));
+        return new ProductBatch(products, missingIds);
+    }
+
+    @Override
+    public ProductPage handle(GetProductsPageQuery query) {
+        // One extra row tells whether there is a next page without issuing a count query
+        var limit = Limit.of(query.limit() + 1);
+        var after = query.after();
+        var rows = switch (query.sortKey()) {
+            case PRICE -> after == null
+                    ? productRepository.findSummariesOrderByPrice(limit)
+                    : productRepository.findSummariesOrderByPriceAfter(after.priceValue(), after.id(), limit);
+            case TITLE -> after == null
+                    ? productRepository.findSummariesOrderByTitle(limit)
+                    : productRepository.findSummariesOrderByTitleAfter(after.titleValue(), after.id(), limit);
+            case CREATED_AT -> after == null
+                    ? productRepository.findSummariesOrderByCreatedAt(limit)
+                    : productRepository.findSummariesOrderByCreatedAtAfter(after.createdAtValue(), after.id(), limit);
+        };
+        if (rows.size() <= query.limit()) return new ProductPage(rows, null);
+        List<ProductSummary> items = rows.subList(0, query.limit());
+        return new ProductPage(items, ProductCursor.of(query.sortKey(), items.get(items.size() - 1)));
+    }
 
+    @Override
+    public ProductSearchPage handle(SearchProductsQuery query) {
+        return productSearchService.search(query.text(), query.offset(), query.limit());
+    }
 }
@@ -1,27 +1,29 @@
 package com.thecoders.cartunnbackend.product.domain.model.aggregates;
 
-import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
 import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
 import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.Entity;
-import jakarta.persistence.ManyToMany;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
 
-import java.util.HashSet;
-import java.util.Set;
-
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Product.TITLE_UNIQUE_CONSTRAINT, columnNames = "title"), indexes = {
+        @Index(name = "ix_products_price_id", columnList = "price, id"),
+        @Index(name = "ix_products_title_id", columnList = "title, id"),
+        @Index(name = "ix_products_created_at_id", columnList = "createdAt, id")
+})
 public class Product extends AuditableAbstractAggregateRoot<Product> {
+    public static final String TITLE_UNIQUE_CONSTRAINT = "uk_products_title";
 
     private String title;
     private String description;
     private String image;
     private Double price;
 
-    @ManyToMany(mappedBy = "assignedProducts")
-    private Set<Cart> cartSet = new HashSet<>();
     public Product() {
         this.title = Strings.EMPTY;
         this.description = Strings.EMPTY;
@@ -0,0 +1,16 @@
+package com.thecoders.cartunnbackend.product.domain.model.commands;
+
+import java.util.List;
+import java.util.Objects;
+
+public record CreateProductsCommand(List<CreateProductCommand> products) {
+    public static final int MAX_PRODUCTS = 500;
+
+    public CreateProductsCommand {
+        if (products == null || products.isEmpty()) throw new IllegalArgumentException("At least one product is required");
+        if (products.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Products must not be null");
+        if (products.size() > MAX_PRODUCTS)
+            throw new IllegalArgumentException("At most " + MAX_PRODUCTS + " products can be created at once");
+        products = List.copyOf(products);
+    }
+}
@@ -0,0 +1,16 @@
+package com.thecoders.cartunnbackend.product.domain.model.commands;
+
+import java.util.Objects;
+import java.util.Set;
+
+public record DeleteProductsCommand(Set<Long> productIds) {
+    public static final int MAX_IDS = 100;
+
+    public DeleteProductsCommand {
+        if (productIds == null || productIds.isEmpty()) throw new IllegalArgumentException("Product ids are required");
+        if (productIds.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Product ids must not be null");
+        if (productIds.size() > MAX_IDS)
+            throw new IllegalArgumentException("At most " + MAX_IDS + " products can be deleted at once");
+        productIds = Set.copyOf(productIds);
+    }
+}
@@ -0,0 +1,14 @@
+package com.thecoders.cartunnbackend.product.domain.model.commands;
+
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportChunk;
+
+import java.util.Iterator;
+
+/**
+ * @param chunks the chunks of the imported catalog, read lazily so only one is held at a time
+ */
+public record ImportProductsCommand(Iterator<ProductImportChunk> chunks) {
+    public ImportProductsCommand {
+        if (chunks == null) throw new IllegalArgumentException("Chunks are required");
+    }
+}
@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.product.domain.model.events;
+
+public record ProductDeletedEvent(Long productId) {
+}
@@ -0,0 +1,6 @@
+package com.thecoders.cartunnbackend.product.domain.model.events;
+
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+
+public record ProductSavedEvent(Product product) {
+}
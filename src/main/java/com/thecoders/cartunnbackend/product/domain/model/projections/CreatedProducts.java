@@ -0,0 +1,9 @@
+package com.thecoders.cartunnbackend.product.domain.model.projections;
+
+import java.util.List;
+
+/**
+ * @param skippedTitles titles of the command that were already taken, left untouched
+ */
+public record CreatedProducts(int created, List<String> skippedTitles) {
+}
@@ -0,0 +1,14 @@
+package com.thecoders.cartunnbackend.product.domain.model.projections;
+
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportError;
+
+import java.util.List;
+
+/**
+ * @param skipped rows whose title was already taken
+ * @param failed rows that could not be read, were invalid, or belonged to a chunk that failed to insert
+ * @param errors the skipped and failed rows, truncated to the first ones reported when there are many
+ */
+public record ImportedProducts(int imported, int skipped, int failed, long elapsedMillis, double rowsPerSecond,
+                               List<ProductImportError> errors) {
+}
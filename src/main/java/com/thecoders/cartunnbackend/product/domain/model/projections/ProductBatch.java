@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.domain.model.projections;
+
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+
+import java.util.List;
+import java.util.Set;
+
+public record ProductBatch(List<Product> products, Set<Long> missingIds) {
+    public boolean isComplete() {
+        return missingIds.isEmpty();
+    }
+}
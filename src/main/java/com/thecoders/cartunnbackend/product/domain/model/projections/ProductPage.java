@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.domain.model.projections;
+
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+public record ProductPage(List<ProductSummary> items, ProductCursor nextCursor) {
+    public Optional<ProductCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
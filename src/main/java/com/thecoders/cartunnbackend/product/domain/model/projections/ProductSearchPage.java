@@ -0,0 +1,6 @@
+package com.thecoders.cartunnbackend.product.domain.model.projections;
+
+import java.util.List;
+
+public record ProductSearchPage(List<ProductSummary> items, int total) {
+}
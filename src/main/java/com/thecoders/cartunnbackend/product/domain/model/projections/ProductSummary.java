@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.domain.model.projections;
+
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+
+import java.util.Date;
+
+public record ProductSummary(Long id, String title, String description, String image, Double price, Date createdAt) {
+    public static ProductSummary of(Product product) {
+        return new ProductSummary(product.getId(), product.getTitle(), product.getDescription(), product.getImage(),
+                product.getPrice(), product.getCreatedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.domain.model.queries;
+
+import java.util.Objects;
+import java.util.Set;
+
+public record GetProductsByIdsQuery(Set<Long> productIds) {
+    public GetProductsByIdsQuery {
+        if (productIds == null || productIds.isEmpty()) throw new IllegalArgumentException("Product ids are required");
+        if (productIds.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Product ids must not be null");
+        productIds = Set.copyOf(productIds);
+    }
+}
@@ -0,0 +1,16 @@
+package com.thecoders.cartunnbackend.product.domain.model.queries;
+
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductSortKey;
+
+public record GetProductsPageQuery(ProductSortKey sortKey, ProductCursor after, int limit) {
+    public static final int MAX_LIMIT = 100;
+
+    public GetProductsPageQuery {
+        if (sortKey == null) throw new IllegalArgumentException("Sort key is required");
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        if (after != null && after.sortKey() != sortKey)
+            throw new IllegalArgumentException("Cursor was issued for a different sort key");
+    }
+}
@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.domain.model.queries;
+
+public record SearchProductsQuery(String text, int offset, int limit) {
+    public static final int MAX_LIMIT = 100;
+
+    public SearchProductsQuery {
+        if (text == null || text.isBlank()) throw new IllegalArgumentException("Search text is required");
+        if (offset < 0) throw new IllegalArgumentException("Offset must not be negative");
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+}
@@ -0,0 +1,75 @@
+package com.thecoders.cartunnbackend.product.domain.model.valueobjects;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Keyset position of the last product of a page: the value of the sort key plus the product id,
+ * which breaks ties between products sharing the same sort value.
+ * It travels to clients as an opaque, url-safe token.
+ */
+public record ProductCursor(ProductSortKey sortKey, String value, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public ProductCursor {
+        if (sortKey == null || value == null || id == null)
+            throw new IllegalArgumentException("Product cursor requires a sort key, a value and an id");
+    }
+
+    public static ProductCursor of(ProductSortKey sortKey, ProductSummary product) {
+        var value = switch (sortKey) {
+            case PRICE -> String.valueOf(product.price());
+            case TITLE -> product.title();
+            case CREATED_AT -> toInstant(product.createdAt()).toString();
+        };
+        return new ProductCursor(sortKey, value, product.id());
+    }
+
+    public static ProductCursor fromToken(String token) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = decoded.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) throw new IllegalArgumentException("Malformed product cursor");
+            var cursor = new ProductCursor(ProductSortKey.valueOf(parts[0]), parts[2], Long.valueOf(parts[1]));
+            cursor.validateValue();
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid product cursor: " + token);
+        }
+    }
+
+    public String toToken() {
+        var raw = sortKey.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Double priceValue() {
+        return Double.valueOf(value);
+    }
+
+    public String titleValue() {
+        return value;
+    }
+
+    public Date createdAtValue() {
+        return Timestamp.from(Instant.parse(value));
+    }
+
+    private void validateValue() {
+        switch (sortKey) {
+            case PRICE -> priceValue();
+            case CREATED_AT -> createdAtValue();
+            case TITLE -> titleValue();
+        }
+    }
+
+    private static Instant toInstant(Date date) {
+        // Hibernate hands back java.sql.Timestamp, which keeps the sub-millisecond part of the column
+        return date instanceof Timestamp timestamp ? timestamp.toInstant() : date.toInstant();
+    }
+}
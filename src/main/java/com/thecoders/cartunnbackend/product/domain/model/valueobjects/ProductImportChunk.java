@@ -0,0 +1,18 @@
+package com.thecoders.cartunnbackend.product.domain.model.valueobjects;
+
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
+
+import java.util.List;
+
+/**
+ * @param rows the rows of the chunk that can be inserted
+ * @param errors the rows of the chunk that could not be read or were invalid
+ */
+public record ProductImportChunk(List<Row> rows, List<ProductImportError> errors) {
+    public List<CreateProductCommand> commands() {
+        return rows.stream().map(Row::command).toList();
+    }
+
+    public record Row(long line, CreateProductCommand command) {
+    }
+}
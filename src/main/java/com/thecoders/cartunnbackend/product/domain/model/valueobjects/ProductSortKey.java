@@ -0,0 +1,26 @@
+package com.thecoders.cartunnbackend.product.domain.model.valueobjects;
+
+import java.util.Arrays;
+
+public enum ProductSortKey {
+    PRICE("price"),
+    TITLE("title"),
+    CREATED_AT("createdAt");
+
+    private final String parameterName;
+
+    ProductSortKey(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static ProductSortKey fromParameterName(String parameterName) {
+        return Arrays.stream(values())
+                .filter(sortKey -> sortKey.parameterName.equalsIgnoreCase(parameterName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported product sort key: " + parameterName));
+    }
+}
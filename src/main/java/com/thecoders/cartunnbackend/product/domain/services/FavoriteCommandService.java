@@ -1,10 +1,13 @@
 package com.thecoders.cartunnbackend.product.domain.services;
 
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Favorite;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteFavoriteCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.RequestFavoriteCommand;
 
+import java.util.Optional;
+
 public interface FavoriteCommandService {
-    Long handle(RequestFavoriteCommand command);
+    Optional<Favorite> handle(RequestFavoriteCommand command);
     void handle(DeleteFavoriteCommand command);
 
 }
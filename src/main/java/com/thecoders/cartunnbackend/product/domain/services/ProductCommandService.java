@@ -1,14 +1,20 @@
 package com.thecoders.cartunnbackend.product.domain.services;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.UpdateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.projections.CreatedProducts;
 
 import java.util.Optional;
 
 public interface ProductCommandService {
-    Long handle(CreateProductCommand command);
+    Optional<Product> handle(CreateProductCommand command);
+    CreatedProducts handle(CreateProductsCommand command);
     Optional<Product> handle(UpdateProductCommand command);
 
     void handle(DeleteProductCommand command);
+
+    int handle(DeleteProductsCommand command);
 }
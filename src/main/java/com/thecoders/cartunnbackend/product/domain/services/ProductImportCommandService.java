@@ -0,0 +1,8 @@
+package com.thecoders.cartunnbackend.product.domain.services;
+
+import com.thecoders.cartunnbackend.product.domain.model.commands.ImportProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ImportedProducts;
+
+public interface ProductImportCommandService {
+    ImportedProducts handle(ImportProductsCommand command);
+}
@@ -1,14 +1,27 @@
 package com.thecoders.cartunnbackend.product.domain.services;
 
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllProductsQuery;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsPageQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.SearchProductsQuery;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductQueryService {
-    Optional<Product> handle(GetProductByIdQuery query);
+    Optional<ProductSummary> handle(GetProductByIdQuery query);
 
     List<Product> handle(GetAllProductsQuery query);
+
+    ProductBatch handle(GetProductsByIdsQuery query);
+
+    ProductPage handle(GetProductsPageQuery query);
+
+    ProductSearchPage handle(SearchProductsQuery query);
 }
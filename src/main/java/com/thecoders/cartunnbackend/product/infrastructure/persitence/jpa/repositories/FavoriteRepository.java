@@ -2,6 +2,8 @@ package com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repos
 
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Favorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -9,4 +11,8 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     List<Favorite> findAllByProductId(Long productId);
     List<Favorite> findByProductId(Long productId);
+
+    @Modifying
+    @Query("delete from Favorite f where f.id = :id")
+    int deleteWhereId(Long id);
 }
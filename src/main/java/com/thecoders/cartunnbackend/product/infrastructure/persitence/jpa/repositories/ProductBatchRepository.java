@@ -0,0 +1,14 @@
+package com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface ProductBatchRepository {
+    /**
+     * Inserts the products in JDBC batches and leaves them detached.
+     */
+    @Transactional
+    void insertAll(List<Product> products);
+}
@@ -0,0 +1,31 @@
+package com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+/**
+ * Product ids come from the pooled id generator, so Hibernate batches the inserts itself.
+ * The persistence context is flushed and cleared after every batch, so an import running under
+ * open-in-view does not keep every product it inserted managed until the request ends.
+ */
+public class ProductBatchRepositoryImpl implements ProductBatchRepository {
+    private static final int FLUSH_SIZE = PooledIdGenerator.ALLOCATION_SIZE;
+
+    private final EntityManager entityManager;
+
+    public ProductBatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertAll(List<Product> products) {
+        for (int from = 0; from < products.size(); from += FLUSH_SIZE) {
+            products.subList(from, Math.min(from + FLUSH_SIZE, products.size())).forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
@@ -1,13 +1,62 @@
 package com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories;
 
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductBatchRepository {
+    String SUMMARY_SELECT = "select new com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary(" +
+            "p.id, p.title, p.description, p.image, p.price, p.createdAt) from Product p ";
+
     Optional<Product> findByTitle(String title);
-    boolean existsByTitle(String title);
-    boolean existsByTitleAndIdIsNot(String title, Long id);
+
+    @Query("select p.title from Product p where p.title in :titles")
+    List<String> findExistingTitles(Collection<String> titles);
+
+    @Query(SUMMARY_SELECT + "where p.id = :id")
+    Optional<ProductSummary> findSummaryById(Long id);
+
+    @Query(SUMMARY_SELECT + "order by p.price, p.id")
+    List<ProductSummary> findSummariesOrderByPrice(Limit limit);
+
+    @Query(SUMMARY_SELECT + "where p.price > :price or (p.price = :price and p.id > :id) order by p.price, p.id")
+    List<ProductSummary> findSummariesOrderByPriceAfter(Double price, Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + "order by p.title, p.id")
+    List<ProductSummary> findSummariesOrderByTitle(Limit limit);
+
+    @Query(SUMMARY_SELECT + "where p.title > :title or (p.title = :title and p.id > :id) order by p.title, p.id")
+    List<ProductSummary> findSummariesOrderByTitleAfter(String title, Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + "order by p.createdAt, p.id")
+    List<ProductSummary> findSummariesOrderByCreatedAt(Limit limit);
+
+    @Query(SUMMARY_SELECT + "where p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id) order by p.createdAt, p.id")
+    List<ProductSummary> findSummariesOrderByCreatedAtAfter(Date createdAt, Long id, Limit limit);
+
+    @Modifying
+    @Query("delete from Product p where p.id = :id")
+    int deleteWhereId(Long id);
+
+    /**
+     * Locks the rows it finds, so a concurrent delete of the same ids waits instead of reporting them too.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findIdsForUpdateByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Product p where p.id in :ids")
+    int deleteWhereIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,117 @@
+package com.thecoders.cartunnbackend.product.infrastructure.search.inmemory.services;
+
+import com.thecoders.cartunnbackend.product.application.internal.outboundservices.search.ProductSearchService;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over product title and description.
+ * Terms are kept sorted so every query term also matches the indexed terms it is a prefix of.
+ * A product matches when all query terms match; results are ranked by a tf-idf score in which
+ * title occurrences and exact term matches weigh more than description occurrences and prefix matches.
+ */
+@Service
+public class ProductSearchServiceImpl implements ProductSearchService {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedProduct> products = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(ProductSummary product) {
+        var termWeights = new HashMap<String, Integer>();
+        tokenize(product.title()).forEach(term -> termWeights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(product.description()).forEach(term -> termWeights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(product.id());
+            termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(product.id(), weight));
+            products.put(product.id(), new IndexedProduct(product, termWeights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public ProductSearchPage search(String text, int offset, int limit) {
+        var queryTerms = new LinkedHashSet<>(tokenize(text));
+        if (queryTerms.isEmpty()) return new ProductSearchPage(List.of(), 0);
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (var queryTerm : queryTerms) {
+                var termScores = score(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((productId, score) -> score + termScores.get(productId));
+                }
+                if (scores.isEmpty()) return new ProductSearchPage(List.of(), 0);
+            }
+            var ranked = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(entry -> products.get(entry.getKey()).product())
+                    .toList();
+            return new ProductSearchPage(ranked, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String queryTerm) {
+        var scores = new HashMap<Long, Double>();
+        var matchingTerms = postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+        matchingTerms.forEach((term, termPostings) -> {
+            var idf = Math.log(1.0 + (double) products.size() / termPostings.size());
+            var matchFactor = term.equals(queryTerm) ? 1.0 : PREFIX_MATCH_FACTOR;
+            termPostings.forEach((productId, weight) -> scores.merge(productId, weight * idf * matchFactor, Double::sum));
+        });
+        return scores;
+    }
+
+    private void removeUnderLock(Long productId) {
+        var indexed = products.remove(productId);
+        if (indexed == null) return;
+        for (var term : indexed.terms()) {
+            var termPostings = postings.get(term);
+            termPostings.remove(productId);
+            if (termPostings.isEmpty()) postings.remove(term);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        var folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(TOKEN_SEPARATOR.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private record IndexedProduct(ProductSummary product, Set<String> terms) {
+    }
+}
@@ -3,7 +3,6 @@ package com.thecoders.cartunnbackend.product.interfaces.rest;
 
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteFavoriteCommand;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllFavoritesQuery;
-import com.thecoders.cartunnbackend.product.domain.model.queries.GetFavoriteByProductIdQuery;
 import com.thecoders.cartunnbackend.product.domain.services.FavoriteCommandService;
 import com.thecoders.cartunnbackend.product.domain.services.FavoriteQueryService;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.FavoriteResource;
@@ -40,14 +39,11 @@ public class FavoritesController {
     @PostMapping
     public ResponseEntity<FavoriteResource> requestFavorite(@RequestBody RequestFavoriteResource resource) {
         var command = RequestFavoriteCommandFromResourceAssembler.toCommandFromResource(resource);
-        var favoriteId = favoriteCommandService.handle(command);
-        System.out.println("Favorite ID = " + favoriteId);
-        var getFavoriteByProductIdQuery = new GetFavoriteByProductIdQuery(resource.productId());
-        var favorite = favoriteQueryService.handle(getFavoriteByProductIdQuery);
+        var favorite = favoriteCommandService.handle(command);
         if (favorite.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
-        var favoriteResource = FavoriteResourceFromEntityAssembler.toResourceFromEntity(favorite.get(0));
+        var favoriteResource = FavoriteResourceFromEntityAssembler.toResourceFromEntity(favorite.get());
         return new ResponseEntity<>(favoriteResource, HttpStatus.CREATED);
     }
     @DeleteMapping("/{favoriteId}")
@@ -1,22 +1,45 @@
 package com.thecoders.cartunnbackend.product.interfaces.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductCommand;
-import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllProductsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.ImportProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsPageQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.SearchProductsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductSortKey;
 import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
+import com.thecoders.cartunnbackend.product.domain.services.ProductImportCommandService;
 import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.CreateProductResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.DeletedProductsResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductBatchResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductImportResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductPageResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductSearchResource;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.UpdateProductResource;
 import com.thecoders.cartunnbackend.product.interfaces.rest.transform.CreateProductCommandFromResourceAssembler;
+import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductBatchResourceFromProjectionAssembler;
+import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductImportReader;
+import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductImportResourceFromProjectionAssembler;
+import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductPageResourceFromProjectionAssembler;
 import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductResourceFromEntityAssembler;
+import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductSearchResourceFromProjectionAssembler;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductResource;
 import com.thecoders.cartunnbackend.product.interfaces.rest.transform.UpdateProductCommandFromResourceAssembler;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -24,22 +47,24 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @RequestMapping(value = "/api/v1/products", produces = APPLICATION_JSON_VALUE)
 @Tag(name = "Products", description = "Product Management Endpoints")
 public class ProductsController {
+    static final int MAX_REQUESTED_IDS = 100;
+
     private final ProductCommandService productCommandService;
     private final ProductQueryService productQueryService;
+    private final ProductImportCommandService productImportCommandService;
+    private final ObjectMapper objectMapper;
 
-    public ProductsController(ProductCommandService productCommandService, ProductQueryService productQueryService) {
+    public ProductsController(ProductCommandService productCommandService, ProductQueryService productQueryService,
+                              ProductImportCommandService productImportCommandService, ObjectMapper objectMapper) {
         this.productCommandService = productCommandService;
         this.productQueryService = productQueryService;
+        this.productImportCommandService = productImportCommandService;
+        this.objectMapper = objectMapper;
     }
     @PostMapping
     public ResponseEntity<ProductResource> createProduct(@RequestBody CreateProductResource createProductResource) {
         var createProductCommand = CreateProductCommandFromResourceAssembler.toCommandFromResource(createProductResource);
-        var productId = productCommandService.handle(createProductCommand);
-        if (productId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-        var getProductByIdQuery = new GetProductByIdQuery(productId);
-        var product = productQueryService.handle(getProductByIdQuery);
+        var product = productCommandService.handle(createProductCommand);
         if (product.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -54,15 +79,58 @@ public class ProductsController {
         if (product.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        var productResource = ProductResourceFromEntityAssembler.toResourceFromEntity(product.get());
+        var productResource = ProductPageResourceFromProjectionAssembler.toResourceFromSummary(product.get());
         return ResponseEntity.ok(productResource);
     }
     @GetMapping
-    public ResponseEntity<List<ProductResource>> getAllProducts() {
-        var getAllProductsQuery = new GetAllProductsQuery();
-        var products = productQueryService.handle(getAllProductsQuery);
-        var productResources = products.stream().map(ProductResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(productResources);
+    public ResponseEntity<ProductPageResource> getAllProducts(@RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(required = false) String after,
+                                                              @RequestParam(defaultValue = "createdAt") String sort) {
+        GetProductsPageQuery getProductsPageQuery;
+        try {
+            var sortKey = ProductSortKey.fromParameterName(sort);
+            var cursor = after == null || after.isBlank() ? null : ProductCursor.fromToken(after);
+            getProductsPageQuery = new GetProductsPageQuery(sortKey, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var productPage = productQueryService.handle(getProductsPageQuery);
+        var productPageResource = ProductPageResourceFromProjectionAssembler.toResourceFromProjection(productPage);
+        return ResponseEntity.ok(productPageResource);
+    }
+
+    /**
+     * Loads up to 100 products at once; carts load theirs through the query service without this cap.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getProductsByIds(@RequestParam Set<Long> ids) {
+        if (ids.size() > MAX_REQUESTED_IDS) {
+            return ResponseEntity.badRequest().body(new MessageResource("At most " + MAX_REQUESTED_IDS + " product ids can be requested at once"));
+        }
+        GetProductsByIdsQuery getProductsByIdsQuery;
+        try {
+            getProductsByIdsQuery = new GetProductsByIdsQuery(ids);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var productBatch = productQueryService.handle(getProductsByIdsQuery);
+        var productBatchResource = ProductBatchResourceFromProjectionAssembler.toResourceFromProjection(productBatch);
+        return ResponseEntity.ok(productBatchResource);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResource> searchProducts(@RequestParam String q,
+                                                                @RequestParam(defaultValue = "0") int offset,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        SearchProductsQuery searchProductsQuery;
+        try {
+            searchProductsQuery = new SearchProductsQuery(q, offset, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var searchPage = productQueryService.handle(searchProductsQuery);
+        var productSearchResource = ProductSearchResourceFromProjectionAssembler.toResourceFromProjection(searchPage);
+        return ResponseEntity.ok(productSearchResource);
     }
 
     @PutMapping("/{productId}")
@@ -81,4 +149,34 @@ public class ProductsController {
         productCommandService.handle(deleteProductCommand);
         return ResponseEntity.ok("Product deleted successfully");
     }
+
+    /**
+     * Deletes up to 100 products at once, for staff cleanup jobs.
+     */
+    @DeleteMapping
+    @PreAuthorize("@roleChecks.hasRole(authentication, 'ROLE_STAFF')")
+    public ResponseEntity<?> deleteProducts(@RequestParam Set<Long> ids) {
+        DeleteProductsCommand deleteProductsCommand;
+        try {
+            deleteProductsCommand = new DeleteProductsCommand(ids);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResource(e.getMessage()));
+        }
+        var deleted = productCommandService.handle(deleteProductsCommand);
+        return ResponseEntity.ok(new DeletedProductsResource(deleted, deleteProductsCommand.productIds().size() - deleted));
+    }
+
+    /**
+     * Imports a catalog sent as newline-delimited JSON, one product per line, without buffering the body.
+     * Each chunk of lines is inserted in its own transaction, so a failing chunk only fails its own rows.
+     */
+    @PostMapping(path = "/import", consumes = ProductImportReader.NDJSON_VALUE)
+    @PreAuthorize("@roleChecks.hasRole(authentication, 'ROLE_STAFF')")
+    public ResponseEntity<ProductImportResource> importProducts(InputStream body) throws IOException {
+        try (var reader = new ProductImportReader(body, objectMapper, CreateProductsCommand.MAX_PRODUCTS)) {
+            var importedProducts = productImportCommandService.handle(new ImportProductsCommand(reader));
+            var productImportResource = ProductImportResourceFromProjectionAssembler.toResourceFromProjection(importedProducts);
+            return ResponseEntity.ok(productImportResource);
+        }
+    }
 }
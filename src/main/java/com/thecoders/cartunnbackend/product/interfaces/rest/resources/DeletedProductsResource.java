@@ -0,0 +1,7 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.resources;
+
+/**
+ * @param notFound how many of the requested ids matched no product
+ */
+public record DeletedProductsResource(int deleted, int notFound) {
+}
@@ -0,0 +1,8 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.resources;
+
+/**
+ * @param line the 1-based line of the row in the imported body
+ * @param title the title of the row, or null when the line could not be read
+ */
+public record ProductImportErrorResource(long line, String title, String message) {
+}
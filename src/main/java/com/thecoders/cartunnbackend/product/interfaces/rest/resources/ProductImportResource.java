@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * @param skipped rows whose title was already taken
+ * @param failed rows that could not be read, were invalid, or belonged to a chunk that failed to insert
+ * @param errors the skipped and failed rows, truncated to the first ones reported when there are many
+ */
+public record ProductImportResource(int imported, int skipped, int failed, long elapsedMillis, double rowsPerSecond,
+                                    List<ProductImportErrorResource> errors) {
+}
@@ -0,0 +1,6 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.resources;
+
+import java.util.List;
+
+public record ProductSearchResource(List<ProductResource> items, int total) {
+}
@@ -0,0 +1,12 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductBatchResource;
+
+public class ProductBatchResourceFromProjectionAssembler {
+    public static ProductBatchResource toResourceFromProjection(ProductBatch batch) {
+        var items = batch.products().stream().map(ProductResourceFromEntityAssembler::toResourceFromEntity).toList();
+        var missingIds = batch.missingIds().stream().sorted().toList();
+        return new ProductBatchResource(items, missingIds);
+    }
+}
@@ -0,0 +1,102 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.transform;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportChunk;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportError;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.CreateProductResource;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * ProductImportReader
+ * <p>
+ * Reads a newline-delimited JSON body, one CreateProductResource per line, a chunk at a time,
+ * so only the current chunk is held in memory however large the body is.
+ * Lines that are not valid JSON, lack a title or price, or repeat a title already in the chunk
+ * are returned as errors instead of commands. A failure to read the body is thrown as an UncheckedIOException.
+ * </p>
+ */
+public class ProductImportReader implements Iterator<ProductImportChunk>, Closeable {
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final BufferedReader reader;
+    private final ObjectReader resourceReader;
+    private final int chunkSize;
+    private long line;
+    private ProductImportChunk next;
+
+    public ProductImportReader(InputStream body, ObjectMapper objectMapper, int chunkSize) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.resourceReader = objectMapper.readerFor(CreateProductResource.class);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readChunk();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    /**
+     * @return the rows and errors of the next chunkSize non-blank lines
+     */
+    @Override
+    public ProductImportChunk next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        var chunk = next;
+        next = null;
+        return chunk;
+    }
+
+    private ProductImportChunk readChunk() throws IOException {
+        var rows = new ArrayList<ProductImportChunk.Row>(chunkSize);
+        var errors = new ArrayList<ProductImportError>();
+        var titles = new HashSet<String>();
+        String text;
+        while (rows.size() + errors.size() < chunkSize && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) continue;
+            CreateProductResource resource;
+            try {
+                resource = resourceReader.readValue(text);
+            } catch (JsonProcessingException e) {
+                errors.add(new ProductImportError(line, null, "Malformed JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            if (resource.title() == null || resource.title().isBlank()) {
+                errors.add(new ProductImportError(line, resource.title(), "Title is required"));
+            } else if (resource.price() == null || resource.price() < 0) {
+                errors.add(new ProductImportError(line, resource.title(), "Price is required and must not be negative"));
+            } else if (!titles.add(resource.title().toLowerCase(Locale.ROOT))) {
+                errors.add(new ProductImportError(line, resource.title(), "Title repeats an earlier row"));
+            } else {
+                rows.add(new ProductImportChunk.Row(line, CreateProductCommandFromResourceAssembler.toCommandFromResource(resource)));
+            }
+        }
+        return rows.isEmpty() && errors.isEmpty() ? null : new ProductImportChunk(rows, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,15 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ImportedProducts;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductImportErrorResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductImportResource;
+
+public class ProductImportResourceFromProjectionAssembler {
+    public static ProductImportResource toResourceFromProjection(ImportedProducts importedProducts) {
+        var errors = importedProducts.errors().stream()
+                .map(error -> new ProductImportErrorResource(error.line(), error.title(), error.message()))
+                .toList();
+        return new ProductImportResource(importedProducts.imported(), importedProducts.skipped(), importedProducts.failed(),
+                importedProducts.elapsedMillis(), importedProducts.rowsPerSecond(), errors);
+    }
+}
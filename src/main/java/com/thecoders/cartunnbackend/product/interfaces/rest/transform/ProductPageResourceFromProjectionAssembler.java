@@ -0,0 +1,19 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductPageResource;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductResource;
+
+public class ProductPageResourceFromProjectionAssembler {
+    public static ProductPageResource toResourceFromProjection(ProductPage page) {
+        var items = page.items().stream().map(ProductPageResourceFromProjectionAssembler::toResourceFromSummary).toList();
+        var nextCursor = page.next().map(ProductCursor::toToken).orElse(null);
+        return new ProductPageResource(items, nextCursor);
+    }
+
+    public static ProductResource toResourceFromSummary(ProductSummary summary) {
+        return new ProductResource(summary.id(), summary.title(), summary.description(), summary.image(), summary.price());
+    }
+}
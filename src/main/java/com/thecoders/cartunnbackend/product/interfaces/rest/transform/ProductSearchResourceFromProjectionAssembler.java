@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.transform;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductSearchResource;
+
+public class ProductSearchResourceFromProjectionAssembler {
+    public static ProductSearchResource toResourceFromProjection(ProductSearchPage page) {
+        var items = page.items().stream().map(ProductPageResourceFromProjectionAssembler::toResourceFromSummary).toList();
+        return new ProductSearchResource(items, page.total());
+    }
+}
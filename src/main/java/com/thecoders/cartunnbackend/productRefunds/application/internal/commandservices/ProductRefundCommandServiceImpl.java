@@ -5,6 +5,8 @@ import com.thecoders.cartunnbackend.productRefunds.domain.model.commands.CreateP
 import com.thecoders.cartunnbackend.productRefunds.domain.model.commands.UpdateProductRefundCommand;
 import com.thecoders.cartunnbackend.productRefunds.domain.services.ProductRefundCommandService;
 import com.thecoders.cartunnbackend.productRefunds.infrastructure.jpa.persistence.ProductRefundRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -18,25 +20,21 @@ public class ProductRefundCommandServiceImpl implements ProductRefundCommandServ
     }
 
     @Override
-    public Long handle(CreateProductRefundCommand command) {
-        if (productRefundRepository.existsByTitle(command.title())) {
-            throw new IllegalArgumentException("Product refund with title " + command.title() + " already exists");
-        }
+    public Optional<ProductRefund> handle(CreateProductRefundCommand command) {
         var productRefund = new ProductRefund(command);
         try {
-            productRefundRepository.save(productRefund);
-            return productRefund.getId();
+            return Optional.of(productRefundRepository.saveAndFlush(productRefund));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, ProductRefund.TITLE_UNIQUE_CONSTRAINT, "Product refund with title " + command.title() + " already exists",
+                    "Error while saving product refund");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving product refund: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving product refund", e);
         }
     }
 
 
     @Override
     public Optional<ProductRefund> handle(UpdateProductRefundCommand command){
-        if(productRefundRepository.existsByTitleAndIdIsNot(command.title(), command.id())){
-            throw new IllegalArgumentException("Profile with same product refund already exists");
-        }
         var result = productRefundRepository.findById(command.id());
         if (result.isEmpty()){
             throw new IllegalArgumentException("ProductRefund does not exist");
@@ -44,10 +42,13 @@ public class ProductRefundCommandServiceImpl implements ProductRefundCommandServ
         var productRefundToUpdated = result.get();
         try {
             productRefundToUpdated.updateInformation(command.title(), command.description(), command.status());
-            var updatedProfile = productRefundRepository.save(productRefundToUpdated);
+            var updatedProfile = productRefundRepository.saveAndFlush(productRefundToUpdated);
             return Optional.of(updatedProfile);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, ProductRefund.TITLE_UNIQUE_CONSTRAINT, "Product refund with title " + command.title() + " already exists",
+                    "Error while updating product refund");
         } catch (Exception e){
-            throw new IllegalArgumentException("Error while updating product refund: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating product refund", e);
         }
     }
 }
@@ -4,17 +4,20 @@ package com.thecoders.cartunnbackend.productRefunds.domain.model.aggregates;
 import com.thecoders.cartunnbackend.productRefunds.domain.model.commands.CreateProductRefundCommand;
 import com.thecoders.cartunnbackend.profiles.domain.model.aggregates.Profile;
 import com.thecoders.cartunnbackend.profiles.domain.model.commands.CreateProfileCommand;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
 
 @Getter
 @Entity
-@Table(name = "product_refunds")
+@Table(name = "product_refunds", uniqueConstraints = @UniqueConstraint(name = ProductRefund.TITLE_UNIQUE_CONSTRAINT, columnNames = "title"))
 
 public class ProductRefund {
+    public static final String TITLE_UNIQUE_CONSTRAINT = "uk_product_refunds_title";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIdGenerator.NAME)
     private Long id;
 
     @Column(name = "title", nullable = false)
@@ -7,6 +7,6 @@ import com.thecoders.cartunnbackend.productRefunds.domain.model.commands.UpdateP
 import java.util.Optional;
 
 public interface ProductRefundCommandService {
-    Long handle(CreateProductRefundCommand command);
+    Optional<ProductRefund> handle(CreateProductRefundCommand command);
     Optional<ProductRefund> handle(UpdateProductRefundCommand command);
 }
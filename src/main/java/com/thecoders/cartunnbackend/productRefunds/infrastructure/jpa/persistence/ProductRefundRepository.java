@@ -8,7 +8,5 @@ import java.util.Optional;
 
 public interface ProductRefundRepository  extends JpaRepository<ProductRefund,Long> {
     Optional<ProductRefund> findByTitle(String tittle);
-    boolean existsByTitleAndIdIsNot(String title, Long id);
 
-    boolean existsByTitle(String title);
 }
@@ -49,11 +49,7 @@ public class ProductRefundsController {
     @PostMapping
     public ResponseEntity<ProductRefundResource> createProductRefund(@RequestBody CreateProductRefundResource createProductRefundResource) {
         var createProductRefundCommand = CreateProductRefundCommandFromResourceAssembler.toCommandFromResource(createProductRefundResource);
-        var productRefundId = productRefundCommandService.handle(createProductRefundCommand);
-        if (productRefundId == 0L) return ResponseEntity.badRequest().build();
-
-        var getProductRefundByIdQuery = new GetProductRefundByIdQuery(productRefundId);
-        var productRefund = productRefundQueryService.handle(getProductRefundByIdQuery);
+        var productRefund = productRefundCommandService.handle(createProductRefundCommand);
         if(productRefund.isEmpty()){
             return ResponseEntity.badRequest().build();
         }
@@ -5,6 +5,8 @@ import com.thecoders.cartunnbackend.profiles.domain.model.commands.CreateProfile
 import com.thecoders.cartunnbackend.profiles.domain.model.commands.UpdateProfileCommand;
 import com.thecoders.cartunnbackend.profiles.domain.services.ProfileCommandService;
 import com.thecoders.cartunnbackend.profiles.infrastructure.jpa.persistence.ProfileRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -17,16 +19,15 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
     }
 
     @Override
-    public Long  handle(CreateProfileCommand command){
-        if(profileRepository.existsByEmail(command.email())) {
-            throw new IllegalArgumentException("Profile with email " + command.email() + "already exists");
-        }
+    public Optional<Profile> handle(CreateProfileCommand command){
         var profile = new Profile(command);
         try {
-            profileRepository.save(profile);
-            return profile.getId();
+            return Optional.of(profileRepository.saveAndFlush(profile));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Profile.EMAIL_UNIQUE_CONSTRAINT, "Profile with email " + command.email() + " already exists",
+                    "Error while saving profile");
         } catch (Exception e){
-            throw new IllegalArgumentException("Error while saving profile: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving profile", e);
 
         }
 
@@ -34,9 +35,6 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
 
     @Override
     public Optional<Profile> handle(UpdateProfileCommand command){
-        if(profileRepository.existsByEmailAndIdIsNot(command.email(), command.id())){
-            throw new IllegalArgumentException("Profile with same profile already exists");
-        }
         var result = profileRepository.findById(command.id());
         if (result.isEmpty()){
             throw new IllegalArgumentException("Profile does not exist");
@@ -44,10 +42,13 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
         var profileToUpdated = result.get();
         try {
             profileToUpdated.updateInformation(command.name(), command.lastName(), command.email());
-            var updatedProfile = profileRepository.save(profileToUpdated);
+            var updatedProfile = profileRepository.saveAndFlush(profileToUpdated);
             return Optional.of(updatedProfile);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Profile.EMAIL_UNIQUE_CONSTRAINT, "Profile with email " + command.email() + " already exists",
+                    "Error while updating profile");
         } catch (Exception e){
-            throw new IllegalArgumentException("Error while updating profile: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating profile", e);
         }
     }
 
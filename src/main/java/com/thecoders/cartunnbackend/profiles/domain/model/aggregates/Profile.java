@@ -2,17 +2,19 @@ package com.thecoders.cartunnbackend.profiles.domain.model.aggregates;
 
 import com.thecoders.cartunnbackend.profiles.domain.model.commands.CreateProfileCommand;
 import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
 
 @Getter
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", uniqueConstraints = @UniqueConstraint(name = Profile.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email_address"))
 public class Profile {
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_profiles_email_address";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIdGenerator.NAME)
     private Long id;
 
     @Column(name = "name", nullable = false)
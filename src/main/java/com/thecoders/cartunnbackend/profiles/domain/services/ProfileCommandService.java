@@ -7,6 +7,6 @@ import com.thecoders.cartunnbackend.profiles.domain.model.commands.UpdateProfile
 import java.util.Optional;
 
 public interface ProfileCommandService {
-    Long handle(CreateProfileCommand command);
+    Optional<Profile> handle(CreateProfileCommand command);
     Optional<Profile> handle(UpdateProfileCommand command);
 }
@@ -9,6 +9,4 @@ import java.util.Optional;
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findByEmail(String title);
-    boolean existsByEmail(String email);
-    boolean existsByEmailAndIdIsNot(String email, Long id);
 }
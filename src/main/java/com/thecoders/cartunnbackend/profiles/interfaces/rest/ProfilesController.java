@@ -36,12 +36,7 @@ public class ProfilesController {
     @PostMapping
     public ResponseEntity<ProfileResource> createProfile(@RequestBody CreateProfileResource createProfileResource) {
         var createProfileCommand = CreateProfileCommandFromResourceAssembler.toCommandFromResource(createProfileResource);
-        var profileId = profileCommandService.handle(createProfileCommand);
-        if (profileId == 0L){
-            return ResponseEntity.badRequest().build();
-        }
-        var getProfileByIdQuery = new GetProfileByIdQuery(profileId);
-        var profile = profileQueryService.handle(getProfileByIdQuery);
+        var profile = profileCommandService.handle(createProfileCommand);
         if(profile.isEmpty()){
             return ResponseEntity.badRequest().build();
         }
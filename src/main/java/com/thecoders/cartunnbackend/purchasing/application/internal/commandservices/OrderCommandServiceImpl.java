@@ -6,7 +6,10 @@ import com.thecoders.cartunnbackend.purchasing.domain.model.commands.DeleteOrder
 import com.thecoders.cartunnbackend.purchasing.domain.model.commands.UpdateOrderCommand;
 import com.thecoders.cartunnbackend.purchasing.domain.services.OrderCommandService;
 import com.thecoders.cartunnbackend.purchasing.infrastructure.persitence.jpa.repositories.PurchasingOrderRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -19,24 +22,20 @@ public class OrderCommandServiceImpl implements OrderCommandService {
     }
 
     @Override
-    public Long handle(CreateOrderCommand command) {
-        if (purchasingOrderRepository.existsByName(command.name())) {
-            throw new IllegalArgumentException("Notification with same order already exists");
-        }
+    public Optional<Order> handle(CreateOrderCommand command) {
         var order = new Order(command);
         try {
-            purchasingOrderRepository.save(order);
-            return order.getId();
+            return Optional.of(purchasingOrderRepository.saveAndFlush(order));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Order.NAME_UNIQUE_CONSTRAINT, "Order with same name already exists",
+                    "Error while saving order");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving order: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving order", e);
         }
     }
 
     @Override
     public Optional<Order> handle(UpdateOrderCommand command) {
-        if (purchasingOrderRepository.existsByNameAndIdIsNot(command.name(), command.id())) {
-            throw new IllegalArgumentException("Notification with same order already exists");
-        }
         var result = purchasingOrderRepository.findById(command.id());
         if (result.isEmpty()) {
             throw new IllegalArgumentException("Notification does not exist");
@@ -44,22 +43,27 @@ public class OrderCommandServiceImpl implements OrderCommandService {
         var orderToUpdate = result.get();
         try {
             orderToUpdate.updateInformation(command.name(), command.description(), command.code(), command.entryDate(), command.exitDate(), command.status());
-            var updatedOrder = purchasingOrderRepository.save(orderToUpdate);
+            var updatedOrder = purchasingOrderRepository.saveAndFlush(orderToUpdate);
             return Optional.of(updatedOrder);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, Order.NAME_UNIQUE_CONSTRAINT, "Order with same name already exists",
+                    "Error while updating order");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while updating order: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating order", e);
         }
     }
 
     @Override
+    @Transactional
     public void handle(DeleteOrderCommand command) {
-        if (!purchasingOrderRepository.existsById(command.orderId())) {
-            throw new IllegalArgumentException("Notification does not exist");
-        }
+        int deleted;
         try {
-            purchasingOrderRepository.deleteById(command.orderId());
+            deleted = purchasingOrderRepository.deleteWhereId(command.orderId());
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting order: " + e.getMessage());
+            throw new IllegalArgumentException("Error while deleting order", e);
+        }
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Notification does not exist");
         }
     }
 }
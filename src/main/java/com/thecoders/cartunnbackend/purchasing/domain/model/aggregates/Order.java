@@ -2,6 +2,7 @@ package com.thecoders.cartunnbackend.purchasing.domain.model.aggregates;
 
 import com.thecoders.cartunnbackend.purchasing.domain.model.commands.CreateOrderCommand;
 import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
@@ -10,11 +11,12 @@ import java.time.LocalDate;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = @UniqueConstraint(name = Order.NAME_UNIQUE_CONSTRAINT, columnNames = "name"))
 public class Order {
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_orders_name";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIdGenerator.NAME)
     private Long id;
 
     @Column(name = "name", nullable = false)
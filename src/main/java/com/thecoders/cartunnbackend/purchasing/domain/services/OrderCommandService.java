@@ -7,7 +7,7 @@ import com.thecoders.cartunnbackend.purchasing.domain.model.commands.UpdateOrder
 import java.util.Optional;
 
 public interface OrderCommandService {
-    Long handle(CreateOrderCommand command);
+    Optional<Order> handle(CreateOrderCommand command);
     Optional<Order> handle(UpdateOrderCommand command);
 
     void handle(DeleteOrderCommand command);
@@ -2,12 +2,16 @@ package com.thecoders.cartunnbackend.purchasing.infrastructure.persitence.jpa.re
 
 import com.thecoders.cartunnbackend.purchasing.domain.model.aggregates.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 @Repository
 public interface PurchasingOrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByName(String title);
-    boolean existsByName(String name);
-    boolean existsByNameAndIdIsNot(String name, Long id);
+
+    @Modifying
+    @Query("delete from Order o where o.id = :id")
+    int deleteWhereId(Long id);
 }
@@ -35,12 +35,7 @@ public class OrdersController {
     @PostMapping
     public ResponseEntity<OrderResource> createOrder(@RequestBody CreateOrderResource createOrderResource) {
         var createOrderCommand = CreateOrderCommandFromResourceAssembler.toCommandFromResource(createOrderResource);
-        var orderId = orderCommandService.handle(createOrderCommand);
-        if (orderId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-        var getOrderByIdQuery = new GetOrderByIdQuery(orderId);
-        var order = orderQueryService.handle(getOrderByIdQuery);
+        var order = orderCommandService.handle(createOrderCommand);
         if (order.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -0,0 +1,10 @@
+package com.thecoders.cartunnbackend.shared.domain.exceptions;
+
+/**
+ * A write that would break a uniqueness rule of the domain, such as a second product with the same title.
+ */
+public class ResourceConflictException extends RuntimeException {
+    public ResourceConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.thecoders.cartunnbackend.shared.domain.model.aggregates;
 
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,9 +14,12 @@ import java.util.Date;
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 @MappedSuperclass
+@TableGenerator(name = PooledIdGenerator.NAME, table = PooledIdGenerator.TABLE,
+        pkColumnName = PooledIdGenerator.SEGMENT_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+        allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
 public abstract class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>> extends AbstractAggregateRoot<T> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PooledIdGenerator.NAME)
     private Long id;
 
     @CreatedDate
@@ -0,0 +1,32 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.caching.configuration;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching(proxyTargetClass = true)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CachingConfiguration {
+    public static final String PRODUCTS_CACHE = "products";
+    public static final String USER_AUTHORITIES_CACHE = "user-authorities";
+
+    /**
+     * Caffeine caches named in spring.cache.cache-names, bounded by spring.cache.caffeine.spec.
+     * Puts and evictions issued inside a transaction are deferred until it commits,
+     * so a rolled back write never leaves its value in the cache.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        var caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
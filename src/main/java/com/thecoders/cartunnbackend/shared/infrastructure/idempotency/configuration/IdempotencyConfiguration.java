@@ -0,0 +1,34 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.pipeline.IdempotencyKeyRequestFilter;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.services.IdempotencyKeyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class IdempotencyConfiguration {
+
+    /**
+     * Registers the Idempotency-Key filter on the create endpoints listed in idempotency.paths.
+     * It runs after the security filter chain so stored responses are scoped to the authenticated user.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyRequestFilter> idempotencyKeyRequestFilter(
+            IdempotencyKeyStore idempotencyKeyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.paths}") String[] paths,
+            @Value("${idempotency.execution-timeout:PT30S}") Duration executionTimeout) {
+        var registration = new FilterRegistrationBean<>(new IdempotencyKeyRequestFilter(idempotencyKeyStore, objectMapper, executionTimeout));
+        registration.addUrlPatterns(paths);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,59 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Response stored for an Idempotency-Key, scoped to the principal that sent it.
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_idempotency_records_principal_key", columnList = "principal, idempotencyKey", unique = true),
+        @Index(name = "ix_idempotency_records_expires_at", columnList = "expiresAt")
+})
+public class IdempotencyRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String principal;
+
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestFingerprint;
+
+    @Column(nullable = false)
+    private Integer statusCode;
+
+    private String contentType;
+
+    @Lob
+    @Column(length = IdempotentResponse.MAX_BODY_BYTES)
+    private byte[] responseBody;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public IdempotencyRecord() {
+    }
+
+    public IdempotencyRecord(String principal, String idempotencyKey, IdempotentResponse response, Instant expiresAt) {
+        this.principal = principal;
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = response.requestFingerprint();
+        this.statusCode = response.statusCode();
+        this.contentType = response.contentType();
+        this.responseBody = response.body();
+        this.expiresAt = expiresAt;
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(requestFingerprint, statusCode, contentType, responseBody, expiresAt);
+    }
+}
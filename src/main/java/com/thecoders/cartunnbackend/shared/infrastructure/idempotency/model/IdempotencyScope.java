@@ -0,0 +1,4 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model;
+
+public record IdempotencyScope(String principal, String idempotencyKey) {
+}
@@ -0,0 +1,11 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model;
+
+import java.time.Instant;
+
+public record IdempotentResponse(String requestFingerprint, int statusCode, String contentType, byte[] body, Instant expiresAt) {
+    public static final int MAX_BODY_BYTES = 1024 * 1024;
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
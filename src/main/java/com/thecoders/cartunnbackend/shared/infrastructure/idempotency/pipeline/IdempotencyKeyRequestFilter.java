@@ -0,0 +1,164 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotencyScope;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotentResponse;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.services.IdempotencyKeyStore;
+import com.thecoders.cartunnbackend.shared.infrastructure.web.CachedBodyHttpServletRequest;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes POST requests carrying an Idempotency-Key header safe to retry.
+ * The first request with a key runs normally and its response is stored; repeats with the same key and body
+ * get the stored response back without reaching the controller, and concurrent repeats wait for the first one.
+ * Reusing a key with a different body is rejected.
+ */
+public class IdempotencyKeyRequestFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String ANONYMOUS_PRINCIPAL = "anonymous";
+
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration executionTimeout;
+
+    public IdempotencyKeyRequestFilter(IdempotencyKeyStore idempotencyKeyStore, ObjectMapper objectMapper, Duration executionTimeout) {
+        this.idempotencyKeyStore = idempotencyKeyStore;
+        this.objectMapper = objectMapper;
+        this.executionTimeout = executionTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).strip();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeMessage(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must have between 1 and %d characters".formatted(MAX_KEY_LENGTH));
+            return;
+        }
+        var cachedRequest = new CachedBodyHttpServletRequest(request);
+        var scope = new IdempotencyScope(currentPrincipal(), idempotencyKey);
+        var fingerprint = fingerprint(cachedRequest);
+
+        while (true) {
+            var stored = idempotencyKeyStore.find(scope);
+            if (stored.isPresent()) {
+                replay(stored.get(), fingerprint, response);
+                return;
+            }
+            var execution = idempotencyKeyStore.claim(scope);
+            if (execution.isEmpty()) {
+                execute(scope, fingerprint, cachedRequest, response, filterChain);
+                return;
+            }
+            try {
+                execution.get().get(executionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                writeMessage(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeMessage(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed");
+                return;
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+        }
+    }
+
+    private void execute(
+            IdempotencyScope scope,
+            String fingerprint,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        IdempotentResponse result = null;
+        try {
+            // The key may have been stored between the lookup and the claim
+            var stored = idempotencyKeyStore.find(scope);
+            if (stored.isPresent()) {
+                replay(stored.get(), fingerprint, response);
+                return;
+            }
+            var cachingResponse = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, cachingResponse);
+            var body = cachingResponse.getContentAsByteArray();
+            // Server errors are not stored, so the client can retry them with the same key
+            if (cachingResponse.getStatus() < 500 && body.length <= IdempotentResponse.MAX_BODY_BYTES) {
+                result = new IdempotentResponse(fingerprint, cachingResponse.getStatus(), cachingResponse.getContentType(),
+                        body, idempotencyKeyStore.expiresAtFrom(Instant.now()));
+            }
+            cachingResponse.copyBodyToResponse();
+        } finally {
+            idempotencyKeyStore.release(scope, result);
+        }
+    }
+
+    private void replay(IdempotentResponse stored, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!stored.requestFingerprint().equals(fingerprint)) {
+            writeMessage(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used with a different request");
+            return;
+        }
+        response.setStatus(stored.statusCode());
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void writeMessage(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new MessageResource(message));
+    }
+
+    private static String currentPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? ANONYMOUS_PRINCIPAL : authentication.getName();
+    }
+
+    private static String fingerprint(CachedBodyHttpServletRequest request) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
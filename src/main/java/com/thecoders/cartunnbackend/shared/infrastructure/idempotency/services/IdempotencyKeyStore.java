@@ -0,0 +1,103 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotencyRecord;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotencyScope;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotentResponse;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.repositories.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores responses by Idempotency-Key for the configured window.
+ * Lookups hit a bounded in-memory cache first and fall back to the idempotency_records table,
+ * so replays survive restarts and are shared between instances.
+ * Executions in progress are tracked in memory: only one request per key runs at a time in this instance,
+ * the others wait for it to finish and then replay its response.
+ */
+@Service
+public class IdempotencyKeyStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyKeyStore.class);
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration window;
+    private final Cache<IdempotencyScope, IdempotentResponse> responses;
+    private final ConcurrentMap<IdempotencyScope, CompletableFuture<Void>> executions = new ConcurrentHashMap<>();
+
+    public IdempotencyKeyStore(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            @Value("${idempotency.window:PT24H}") Duration window,
+            @Value("${idempotency.cache.maximum-size:10000}") long maximumSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.window = window;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public Optional<IdempotentResponse> find(IdempotencyScope scope) {
+        var now = Instant.now();
+        var cached = responses.getIfPresent(scope);
+        if (cached != null && !cached.isExpired(now)) return Optional.of(cached);
+        var stored = idempotencyRecordRepository.findByPrincipalAndIdempotencyKey(scope.principal(), scope.idempotencyKey())
+                .map(IdempotencyRecord::toResponse)
+                .filter(response -> !response.isExpired(now));
+        stored.ifPresent(response -> responses.put(scope, response));
+        return stored;
+    }
+
+    /**
+     * Claims the execution of a key.
+     * @return empty when the caller now owns the execution and must call {@link #release}, otherwise
+     * a future completed when the current owner releases the key
+     */
+    public Optional<CompletableFuture<Void>> claim(IdempotencyScope scope) {
+        return Optional.ofNullable(executions.putIfAbsent(scope, new CompletableFuture<>()));
+    }
+
+    /**
+     * Releases a claimed key, storing the response when one is given so that waiting and later requests replay it.
+     */
+    public void release(IdempotencyScope scope, IdempotentResponse response) {
+        try {
+            if (response != null) store(scope, response);
+        } finally {
+            var execution = executions.remove(scope);
+            if (execution != null) execution.complete(null);
+        }
+    }
+
+    public Instant expiresAtFrom(Instant now) {
+        return now.plus(window);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        var purged = idempotencyRecordRepository.deleteExpired(Instant.now());
+        if (purged > 0) LOGGER.info("Purged {} expired idempotency records", purged);
+    }
+
+    private void store(IdempotencyScope scope, IdempotentResponse response) {
+        responses.put(scope, response);
+        try {
+            idempotencyRecordRepository.save(new IdempotencyRecord(scope.principal(), scope.idempotencyKey(), response, response.expiresAt()));
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.warn("Idempotency key already stored by another instance: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa;
+
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Turns the violation of a unique index into a {@link ResourceConflictException}, so a write can rely on the
+ * index instead of checking for an existing row first. The write must flush, e.g. with saveAndFlush,
+ * so the violation is raised where it can be translated rather than at commit.
+ */
+public final class UniqueConstraintViolationTranslator {
+
+    private UniqueConstraintViolationTranslator() {
+    }
+
+    /**
+     * @param constraintName  the name of the unique constraint that guards the write
+     * @param conflictMessage the message of the conflict when that constraint is violated
+     * @param errorMessage    the message when another constraint is violated, without the database's own text
+     * @return a {@link ResourceConflictException} when the constraint was violated, otherwise an
+     * {@link IllegalArgumentException}, so a violation such as a missing reference is still a bad request
+     */
+    public static RuntimeException translate(DataIntegrityViolationException exception, String constraintName,
+                                             String conflictMessage, String errorMessage) {
+        if (violates(exception, constraintName)) return new ResourceConflictException(conflictMessage, exception);
+        return new IllegalArgumentException(errorMessage, exception);
+    }
+
+    static boolean violates(DataIntegrityViolationException exception, String constraintName) {
+        var expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                // MySQL 8 reports the key qualified by its table, e.g. products.uk_products_title
+                var violated = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return violated.equals(expected) || violated.endsWith("." + expected);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators;
+
+/**
+ * PooledIdGenerator
+ * <p>
+ * Settings of the table-backed id generator shared by the aggregates.
+ * Each entity table has its own row in {@link #TABLE}, and every node reserves a block of
+ * {@link #ALLOCATION_SIZE} ids per round trip to it. Ids are known before the insert runs,
+ * which lets Hibernate send inserts as JDBC batches, something IDENTITY columns rule out.
+ * The generator is declared once, on {@code AuditableAbstractAggregateRoot}; generator names are global to
+ * the persistence unit, so entities outside that hierarchy refer to it by {@link #NAME} alone.
+ * </p>
+ */
+public final class PooledIdGenerator {
+    public static final String NAME = "pooled_ids";
+    public static final String TABLE = "id_generators";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIdGenerator() {
+    }
+}
@@ -0,0 +1,60 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PooledIdGeneratorSeeder
+ * <p>
+ * Moves the {@link PooledIdGenerator} row of every entity table past the ids already stored in it.
+ * Tables filled while ids were IDENTITY columns would otherwise get ids handed out again from 1.
+ * Runs once all singletons exist, before the web server accepts requests and before any seeding on
+ * application ready, and leaves rows that are already ahead untouched, so it is safe on every start.
+ * </p>
+ */
+@Component
+public class PooledIdGeneratorSeeder implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledIdGeneratorSeeder.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledIdGeneratorSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof TableGenerator generator
+                    && PooledIdGenerator.TABLE.equals(generator.getTableName())
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                seed(generator.getSegmentValue(), entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+
+    /**
+     * Raises the next value of the segment to one past the highest id of the table, inserting the row if missing.
+     */
+    void seed(String segment, String table, String idColumn) {
+        var nextId = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) + 1 from " + table, Long.class);
+        var updated = jdbcTemplate.update("update " + PooledIdGenerator.TABLE
+                + " set " + PooledIdGenerator.VALUE_COLUMN + " = greatest(" + PooledIdGenerator.VALUE_COLUMN + ", ?)"
+                + " where " + PooledIdGenerator.SEGMENT_COLUMN + " = ?", nextId, segment);
+        if (updated == 0) {
+            jdbcTemplate.update("insert into " + PooledIdGenerator.TABLE
+                    + " (" + PooledIdGenerator.SEGMENT_COLUMN + ", " + PooledIdGenerator.VALUE_COLUMN + ") values (?, ?)", segment, nextId);
+        }
+        LOGGER.debug("Id generator segment {} starts at {} or above", segment, nextId);
+    }
+}
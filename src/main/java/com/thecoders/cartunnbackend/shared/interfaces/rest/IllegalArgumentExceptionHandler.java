@@ -0,0 +1,18 @@
+package com.thecoders.cartunnbackend.shared.interfaces.rest;
+
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Command services reject invalid requests, such as a missing reference, with an IllegalArgumentException.
+ */
+@RestControllerAdvice
+public class IllegalArgumentExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<MessageResource> handleIllegalArgument(IllegalArgumentException exception) {
+        return ResponseEntity.badRequest().body(new MessageResource(exception.getMessage()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.thecoders.cartunnbackend.shared.interfaces.rest;
+
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ResourceConflictExceptionHandler {
+
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<MessageResource> handleResourceConflict(ResourceConflictException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResource(exception.getMessage()));
+    }
+}
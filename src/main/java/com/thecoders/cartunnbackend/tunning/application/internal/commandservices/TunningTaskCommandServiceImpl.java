@@ -6,7 +6,10 @@ import com.thecoders.cartunnbackend.tunning.domain.model.commands.DeleteTunningT
 import com.thecoders.cartunnbackend.tunning.domain.model.commands.UpdateTunningTaskCommand;
 import com.thecoders.cartunnbackend.tunning.domain.services.TunningTaskCommandService;
 import com.thecoders.cartunnbackend.tunning.infrastructure.persitence.jpa.repositories.TunningTaskRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.UniqueConstraintViolationTranslator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 @Service
@@ -18,41 +21,44 @@ public class TunningTaskCommandServiceImpl implements TunningTaskCommandService
     }
 
     @Override
-    public Long handle(CreateTunningTaskCommand command) {
-        if (tunningTaskRepository.existsByModifiedPart(command.modifiedPart())) {
-            throw new IllegalArgumentException("TunningTask with same title already exists");
-        }
+    public Optional<TunningTask> handle(CreateTunningTaskCommand command) {
         var tunningTask = new TunningTask(command);
         try {
-            tunningTaskRepository.save(tunningTask);
+            tunningTaskRepository.saveAndFlush(tunningTask);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, TunningTask.MODIFIED_PART_UNIQUE_CONSTRAINT, "TunningTask with same modified part already exists",
+                    "Error while saving product");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while saving product: " + e.getMessage());
+            throw new IllegalArgumentException("Error while saving product", e);
         }
-        return tunningTask.getId();
+        return Optional.of(tunningTask);
     }
     @Override
     public Optional<TunningTask> handle(UpdateTunningTaskCommand command) {
-        if (tunningTaskRepository.existsByModifiedPartAndIdIsNot(command.modifiedPart(), command.id()))
-            throw new IllegalArgumentException("Product with same title already exists");
         var result = tunningTaskRepository.findById(command.id());
         if (result.isEmpty()) throw new IllegalArgumentException("Product does not exist");
         var tunningTaskToUpdate = result.get();
         try {
-            var updatedTunningTask = tunningTaskRepository.save(tunningTaskToUpdate.updateInformation(command.modifiedPart(), command.date(), command.status()));
+            var updatedTunningTask = tunningTaskRepository.saveAndFlush(tunningTaskToUpdate.updateInformation(command.modifiedPart(), command.date(), command.status()));
             return Optional.of(updatedTunningTask);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintViolationTranslator.translate(e, TunningTask.MODIFIED_PART_UNIQUE_CONSTRAINT, "TunningTask with same modified part already exists",
+                    "Error while updating product");
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while updating product: " + e.getMessage());
+            throw new IllegalArgumentException("Error while updating product", e);
         }
     }
     @Override
+    @Transactional
     public void handle(DeleteTunningTaskCommand command) {
-        if (!tunningTaskRepository.existsById(command.tunningTaskId())) {
-            throw new IllegalArgumentException("Product does not exist");
-        }
+        int deleted;
         try {
-            tunningTaskRepository.deleteById(command.tunningTaskId());
+            deleted = tunningTaskRepository.deleteWhereId(command.tunningTaskId());
         } catch (Exception e) {
-            throw new IllegalArgumentException("Error while deleting product: " + e.getMessage());
+            throw new IllegalArgumentException("Error while deleting product", e);
+        }
+        if (deleted == 0) {
+            throw new IllegalArgumentException("Product does not exist");
         }
     }
 
@@ -3,13 +3,17 @@ package com.thecoders.cartunnbackend.tunning.domain.model.aggregates;
 import com.thecoders.cartunnbackend.tunning.domain.model.commands.CreateTunningTaskCommand;
 import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
 
 import java.time.LocalDate;
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = TunningTask.MODIFIED_PART_UNIQUE_CONSTRAINT, columnNames = "modifiedPart"))
 public class TunningTask extends AuditableAbstractAggregateRoot<TunningTask> {
+    public static final String MODIFIED_PART_UNIQUE_CONSTRAINT = "uk_tunning_tasks_modified_part";
 
     private String modifiedPart;
     private LocalDate date;
@@ -8,7 +8,7 @@ import com.thecoders.cartunnbackend.tunning.domain.model.commands.UpdateTunningT
 import java.util.Optional;
 
 public interface TunningTaskCommandService {
-    Long handle(CreateTunningTaskCommand command);
+    Optional<TunningTask> handle(CreateTunningTaskCommand command);
     Optional<TunningTask> handle(UpdateTunningTaskCommand command);
     void handle(DeleteTunningTaskCommand command);
 }
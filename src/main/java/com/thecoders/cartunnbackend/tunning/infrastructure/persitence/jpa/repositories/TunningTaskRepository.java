@@ -2,13 +2,15 @@ package com.thecoders.cartunnbackend.tunning.infrastructure.persitence.jpa.repos
 
 import com.thecoders.cartunnbackend.tunning.domain.model.aggregates.TunningTask;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TunningTaskRepository extends JpaRepository<TunningTask, Long> {
     //Optional<TunningTask> finByModifiedPart(String modifiedPart);
 
-    boolean existsByModifiedPart(String modifiedPart);
-
-    boolean existsByModifiedPartAndIdIsNot(String modifiedPart, Long id);
+    @Modifying
+    @Query("delete from TunningTask t where t.id = :id")
+    int deleteWhereId(Long id);
 }
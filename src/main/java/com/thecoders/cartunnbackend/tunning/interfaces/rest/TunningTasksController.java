@@ -2,7 +2,6 @@ package com.thecoders.cartunnbackend.tunning.interfaces.rest;
 
 import com.thecoders.cartunnbackend.tunning.domain.model.commands.DeleteTunningTaskCommand;
 import com.thecoders.cartunnbackend.tunning.domain.model.queries.GetAllTunningTasksQuery;
-import com.thecoders.cartunnbackend.tunning.domain.model.queries.GetTunningTaskByIdQuery;
 import com.thecoders.cartunnbackend.tunning.domain.services.TunningTaskCommandService;
 import com.thecoders.cartunnbackend.tunning.domain.services.TunningTaskQueryService;
 import com.thecoders.cartunnbackend.tunning.interfaces.rest.resources.CreateTunningTaskResource;
@@ -35,12 +34,7 @@ public class TunningTasksController {
     @PostMapping
     public ResponseEntity<TunningTaskResource> createTunningTask(@RequestBody CreateTunningTaskResource createTunningTaskResource) {
         var createTunningTaskCommand = CreateTunningTaskCommandFromResourceAssembler.toCommandFromResource(createTunningTaskResource);
-        var tunningTaskId = tunningTaskCommandService.handle(createTunningTaskCommand);
-        if (tunningTaskId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-        var getTunningTaskByIdQuery = new GetTunningTaskByIdQuery(tunningTaskId);
-        var tunningTask = tunningTaskQueryService.handle(getTunningTaskByIdQuery);
+        var tunningTask = tunningTaskCommandService.handle(createTunningTaskCommand);
         if (tunningTask.isEmpty()) return ResponseEntity.badRequest().build();
         var tunningTaskResource = TunningTaskResourceFromEntityAssembler.toResourceFromEntity(tunningTask.get());
         return new ResponseEntity<>(tunningTaskResource, HttpStatus.CREATED);
@@ -1,5 +1,6 @@
 package com.thecoders.cartunnbackend.iam.application.internal.commandservices;
 
+import com.thecoders.cartunnbackend.iam.application.internal.registries.RoleRegistry;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SeedRolesCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
 import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
@@ -20,6 +21,9 @@ class RoleCommandServiceImplTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private RoleRegistry roleRegistry;
+
     @InjectMocks
     private RoleCommandServiceImpl roleCommandService;
 
@@ -39,6 +43,7 @@ class RoleCommandServiceImplTest {
 
         // Assert
         Arrays.stream(Roles.values()).forEach(role -> verify(roleRepository).existsByName(role));
+        verify(roleRegistry).reload();
     }
 
     @Test
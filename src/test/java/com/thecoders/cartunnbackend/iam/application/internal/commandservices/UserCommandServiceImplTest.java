@@ -2,24 +2,40 @@ package com.thecoders.cartunnbackend.iam.application.internal.commandservices;
 
 import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingService;
 import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.tokens.TokenService;
+import com.thecoders.cartunnbackend.iam.application.internal.registries.RoleRegistry;
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.ProvisionUsersCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.RefreshTokenCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignInCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.SignOutCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignUpCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.entities.RefreshToken;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
 import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
-import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RefreshTokenRepository;
 import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class UserCommandServiceImplTest {
@@ -28,7 +44,7 @@ class UserCommandServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private HashingService hashingService;
@@ -36,12 +52,17 @@ class UserCommandServiceImplTest {
     @Mock
     private TokenService tokenService;
 
-    @InjectMocks
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     private UserCommandServiceImpl userCommandService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userCommandService = new UserCommandServiceImpl(userRepository, hashingService, tokenService, roleRegistry, refreshTokenRepository, 7);
+        when(tokenService.generateRefreshToken()).thenReturn("refreshToken");
+        when(tokenService.hashRefreshToken(anyString())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
     }
 
     @Test
@@ -53,22 +74,40 @@ class UserCommandServiceImplTest {
 
         when(userRepository.existsByUsername(command.username())).thenReturn(false);
 
-        when(roleRepository.findByName(Roles.ROLE_CLIENT)).thenReturn(Optional.of(role1));
-        when(roleRepository.findByName(Roles.ROLE_STAFF)).thenReturn(Optional.of(role2));
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(role1));
+        when(roleRegistry.find(Roles.ROLE_STAFF)).thenReturn(Optional.of(role2));
 
         String hashedPassword = "hashedPassword";
         when(hashingService.encode(command.password())).thenReturn(hashedPassword);
 
-        User savedUser = new User(command.username(), hashedPassword, List.of(role1, role2));
-        when(userRepository.save(savedUser)).thenReturn(savedUser);
-
-        when(userRepository.findByUsername(command.username())).thenReturn(Optional.of(savedUser));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         Optional<User> result = userCommandService.handle(command);
 
         // Assert
         assertTrue(result.isPresent());
+        assertEquals(hashedPassword, result.get().getPassword());
+        assertEquals(2, result.get().getRoles().size());
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void handleSignUp_GivenNoRoles_ShouldAssignClientRole() {
+        // Arrange
+        Role clientRole = new Role(Roles.ROLE_CLIENT);
+        SignUpCommand command = new SignUpCommand("user1", "password", List.of());
+
+        when(userRepository.existsByUsername(command.username())).thenReturn(false);
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(clientRole));
+        when(hashingService.encode(command.password())).thenReturn("hashedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Optional<User> result = userCommandService.handle(command);
+
+        // Assert
+        assertEquals(Set.of(clientRole), result.orElseThrow().getRoles());
     }
 
     @Test
@@ -81,7 +120,7 @@ class UserCommandServiceImplTest {
         when(userRepository.existsByUsername(command.username())).thenReturn(true);
 
         // Act
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        ResourceConflictException exception = assertThrows(ResourceConflictException.class, () -> {
             userCommandService.handle(command);
         });
 
@@ -89,6 +128,24 @@ class UserCommandServiceImplTest {
         assertEquals("Username already exists", exception.getMessage());
     }
 
+    @Test
+    void handleSignUp_GivenUsernameTakenConcurrently_ShouldThrowConflict() {
+        // Arrange
+        Role clientRole = new Role(Roles.ROLE_CLIENT);
+        SignUpCommand command = new SignUpCommand("user1", "password", List.of());
+
+        when(userRepository.existsByUsername(command.username())).thenReturn(false);
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(clientRole));
+        when(hashingService.encode(command.password())).thenReturn("hashedPassword");
+        var violation = new ConstraintViolationException("could not execute statement",
+                new SQLException("Duplicate entry", "23000", 1062), "users." + User.USERNAME_UNIQUE_CONSTRAINT);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // Act & Assert
+        var exception = assertThrows(ResourceConflictException.class, () -> userCommandService.handle(command));
+        assertEquals("Username already exists", exception.getMessage());
+    }
+
     @Test
     void handleSignUp_GivenRoleNotFound_ShouldThrowException() {
         // Arrange
@@ -98,8 +155,8 @@ class UserCommandServiceImplTest {
 
         when(userRepository.existsByUsername(command.username())).thenReturn(false);
 
-        when(roleRepository.findByName(Roles.ROLE_CLIENT)).thenReturn(Optional.of(role1));
-        when(roleRepository.findByName(Roles.ROLE_STAFF)).thenReturn(Optional.empty());  // Este rol no existe
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(role1));
+        when(roleRegistry.find(Roles.ROLE_STAFF)).thenReturn(Optional.empty());  // Este rol no existe
 
         // Act
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -110,6 +167,98 @@ class UserCommandServiceImplTest {
         assertEquals("Role not found", exception.getMessage());
     }
 
+    @Test
+    void handleProvisionUsers_GivenSomeTakenUsernames_ShouldHashAndBatchInsertTheRest() {
+        // Arrange
+        Role clientRole = new Role(Roles.ROLE_CLIENT);
+        ProvisionUsersCommand command = new ProvisionUsersCommand(List.of(
+                new SignUpCommand("user1", "password1", List.of()),
+                new SignUpCommand("taken", "password2", List.of()),
+                new SignUpCommand("user3", "password3", List.of())));
+
+        when(userRepository.findExistingUsernames(List.of("user1", "taken", "user3"))).thenReturn(List.of("taken"));
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(clientRole));
+        when(hashingService.encodeAll(List.of("password1", "password3"))).thenReturn(List.of("hash1", "hash3"));
+        when(userRepository.insertAll(anyList())).thenReturn(List.of(10L, 11L));
+
+        // Act
+        var result = userCommandService.handle(command);
+
+        // Assert
+        assertEquals(List.of("taken"), result.skippedUsernames());
+        assertEquals(List.of(10L, 11L), result.created().stream().map(UserSummary::id).toList());
+        assertEquals(List.of(Roles.ROLE_CLIENT), result.created().get(0).roles());
+        verify(userRepository).insertAll(argThat(users -> users.size() == 2
+                && users.get(0).getUsername().equals("user1") && users.get(0).getPassword().equals("hash1")
+                && users.get(1).getUsername().equals("user3") && users.get(1).getPassword().equals("hash3")));
+        verify(hashingService, never()).encode(any());
+        verify(userRepository, never()).existsByUsername(any());
+    }
+
+    @Test
+    void handleProvisionUsers_GivenOnlyTakenUsernames_ShouldNotHash() {
+        // Arrange
+        ProvisionUsersCommand command = new ProvisionUsersCommand(List.of(new SignUpCommand("taken", "password", List.of())));
+        when(userRepository.findExistingUsernames(List.of("taken"))).thenReturn(List.of("taken"));
+
+        // Act
+        var result = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.created().isEmpty());
+        verifyNoInteractions(hashingService);
+        verify(userRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void handleProvisionUsers_GivenUsernameTakenConcurrently_ShouldThrowConflict() {
+        // Arrange
+        Role clientRole = new Role(Roles.ROLE_CLIENT);
+        ProvisionUsersCommand command = new ProvisionUsersCommand(List.of(new SignUpCommand("user1", "password1", List.of())));
+        when(userRepository.findExistingUsernames(List.of("user1"))).thenReturn(List.of());
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(clientRole));
+        when(hashingService.encodeAll(List.of("password1"))).thenReturn(List.of("hash1"));
+        var violation = new ConstraintViolationException("could not execute batch",
+                new SQLException("Duplicate entry", "23000", 1062), "users." + User.USERNAME_UNIQUE_CONSTRAINT);
+        when(userRepository.insertAll(anyList())).thenThrow(new DataIntegrityViolationException("could not execute batch", violation));
+
+        // Act & Assert
+        var exception = assertThrows(ResourceConflictException.class, () -> userCommandService.handle(command));
+        assertEquals("Username already exists", exception.getMessage());
+    }
+
+    @Test
+    void provisionUsersCommand_GivenDuplicateUsernames_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ProvisionUsersCommand(List.of(
+                new SignUpCommand("user1", "password", List.of()),
+                new SignUpCommand("user1", "password", List.of()))));
+    }
+
+    @Test
+    void provisionUsersCommand_GivenUsernamesDifferingOnlyInCase_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ProvisionUsersCommand(List.of(
+                new SignUpCommand("user1", "password", List.of()),
+                new SignUpCommand("USER1", "password", List.of()))));
+    }
+
+    @Test
+    void handleProvisionUsers_GivenUsernameTakenWithOtherCase_ShouldSkipIt() {
+        // Arrange
+        ProvisionUsersCommand command = new ProvisionUsersCommand(List.of(new SignUpCommand("john", "password", List.of())));
+        when(userRepository.findExistingUsernames(List.of("john"))).thenReturn(List.of("John"));
+
+        // Act
+        var result = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.created().isEmpty());
+        assertEquals(List.of("john"), result.skippedUsernames());
+        verifyNoInteractions(hashingService);
+        verify(userRepository, never()).insertAll(any());
+    }
+
     @Test
     void handle_GivenCorrectCredentials_ShouldReturnUserAndToken() {
         // Arrange
@@ -118,15 +267,82 @@ class UserCommandServiceImplTest {
 
         when(userRepository.findByUsername(command.username())).thenReturn(Optional.of(user));
         when(hashingService.matches(command.password(), user.getPassword())).thenReturn(true);
-        when(tokenService.generateToken(user.getUsername())).thenReturn("generatedToken");
+        when(tokenService.generateToken(user)).thenReturn("generatedToken");
 
         // Act
-        Optional<ImmutablePair<User, String>> result = userCommandService.handle(command);
+        Optional<ImmutableTriple<User, String, String>> result = userCommandService.handle(command);
 
         // Assert
         assertTrue(result.isPresent());
         assertEquals(user, result.get().getLeft());
-        assertEquals("generatedToken", result.get().getRight());
+        assertEquals("generatedToken", result.get().getMiddle());
+        assertEquals("refreshToken", result.get().getRight());
+        verify(refreshTokenRepository).save(argThat(refreshToken -> refreshToken.getTokenHash().equals("hash:refreshToken")));
+    }
+
+    @Test
+    void handleRefreshToken_GivenActiveToken_ShouldRotateItWithinFamily() {
+        // Arrange
+        User user = new User("user1", "hashedPassword", List.of(new Role(Roles.ROLE_CLIENT)));
+        RefreshToken current = new RefreshToken(user, "hash:oldRefreshToken", "family", new Date(System.currentTimeMillis() + 60_000));
+        when(refreshTokenRepository.findByTokenHash("hash:oldRefreshToken")).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.revokeIfActive(current.getId())).thenReturn(1);
+        when(tokenService.generateToken(user)).thenReturn("newToken");
+
+        // Act
+        var result = userCommandService.handle(new RefreshTokenCommand("oldRefreshToken")).orElseThrow();
+
+        // Assert
+        assertEquals("newToken", result.getMiddle());
+        assertEquals("refreshToken", result.getRight());
+        verify(refreshTokenRepository).save(argThat(refreshToken -> refreshToken.getFamilyId().equals("family")));
+        verifyNoInteractions(hashingService);
+    }
+
+    @Test
+    void handleRefreshToken_GivenAlreadyRotatedToken_ShouldRevokeFamily() {
+        // Arrange
+        User user = new User("user1", "hashedPassword", List.of(new Role(Roles.ROLE_CLIENT)));
+        RefreshToken replayed = new RefreshToken(user, "hash:oldRefreshToken", "family", new Date(System.currentTimeMillis() + 60_000));
+        when(refreshTokenRepository.findByTokenHash("hash:oldRefreshToken")).thenReturn(Optional.of(replayed));
+        when(refreshTokenRepository.revokeIfActive(replayed.getId())).thenReturn(0);
+
+        // Act
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> userCommandService.handle(new RefreshTokenCommand("oldRefreshToken")));
+
+        // Assert
+        assertEquals("Refresh token already used", exception.getMessage());
+        verify(refreshTokenRepository).revokeFamily("family");
+        verify(tokenService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void handleRefreshToken_GivenUnknownToken_ShouldThrowException() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userCommandService.handle(new RefreshTokenCommand("unknown")));
+    }
+
+    @Test
+    void handle_GivenPasswordHashedWithOutdatedCost_ShouldRehashOnSignIn() {
+        // Arrange
+        User user = new User("user1", "outdatedHash", List.of(new Role(Roles.ROLE_CLIENT)));
+        SignInCommand command = new SignInCommand("user1", "password");
+
+        when(userRepository.findByUsername(command.username())).thenReturn(Optional.of(user));
+        when(hashingService.matches(command.password(), "outdatedHash")).thenReturn(true);
+        when(hashingService.needsRehash("outdatedHash")).thenReturn(true);
+        when(hashingService.encode(command.password())).thenReturn("currentHash");
+
+        // Act
+        userCommandService.handle(command);
+
+        // Assert
+        assertEquals("currentHash", user.getPassword());
+        verify(userRepository).save(user);
     }
 
     @Test
@@ -143,6 +359,7 @@ class UserCommandServiceImplTest {
 
         // Assert
         assertEquals("User not found", exception.getMessage());
+        verify(hashingService).matches(eq(command.password()), any());
     }
 
     @Test
@@ -162,4 +379,27 @@ class UserCommandServiceImplTest {
         // Assert
         assertEquals("Invalid password", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handle_GivenRevocableToken_ShouldRevokeIt() {
+        // Arrange
+        when(tokenService.revokeToken("token")).thenReturn(true);
+        when(tokenService.getUsernameFromToken("token")).thenReturn("user1");
+
+        // Act
+        userCommandService.handle(new SignOutCommand("token"));
+
+        // Assert
+        verify(tokenService).revokeToken("token");
+        verify(refreshTokenRepository).revokeAllByUsername("user1");
+    }
+
+    @Test
+    void handle_GivenInvalidTokenOnSignOut_ShouldThrowException() {
+        // Arrange
+        when(tokenService.revokeToken("token")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userCommandService.handle(new SignOutCommand("token")));
+    }
+}
@@ -1,10 +1,10 @@
 package com.thecoders.cartunnbackend.iam.application.internal.queryservices;
 
+import com.thecoders.cartunnbackend.iam.application.internal.registries.RoleRegistry;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllRolesQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetRoleByNameQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
-import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -21,7 +21,7 @@ import static org.mockito.Mockito.when;
 class RoleQueryServiceImplTest {
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @InjectMocks
     private RoleQueryServiceImpl roleQueryService;
@@ -36,7 +36,7 @@ class RoleQueryServiceImplTest {
         // Arrange
         var query = new GetAllRolesQuery();
         var roles = List.of(new Role(Roles.ROLE_CLIENT), new Role(Roles.ROLE_STAFF));
-        when(roleRepository.findAll()).thenReturn(roles);
+        when(roleRegistry.findAll()).thenReturn(roles);
         var expectedListSize = 2;
 
         // Act
@@ -51,7 +51,7 @@ class RoleQueryServiceImplTest {
     void handleGetAllRoles_GivenNonExistingRoles_ShouldReturnEmptyList() {
         // Arrange
         var query = new GetAllRolesQuery();
-        when(roleRepository.findAll()).thenReturn(Collections.emptyList());
+        when(roleRegistry.findAll()).thenReturn(Collections.emptyList());
 
         // Act
         var result = roleQueryService.handle(query);
@@ -65,7 +65,7 @@ class RoleQueryServiceImplTest {
         // Arrange
         var query = new GetRoleByNameQuery(Roles.ROLE_CLIENT);
         var role = new Role(Roles.ROLE_CLIENT);
-        when(roleRepository.findByName(Roles.ROLE_CLIENT)).thenReturn(Optional.of(role));
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.of(role));
 
         // Act
         var result = roleQueryService.handle(query);
@@ -79,7 +79,7 @@ class RoleQueryServiceImplTest {
     void handleGetRoleByName_GivenNonExistingRole_ShouldReturnEmptyOptional() {
         // Arrange
         var query = new GetRoleByNameQuery(Roles.ROLE_CLIENT);
-        when(roleRepository.findByName(Roles.ROLE_CLIENT)).thenReturn(Optional.empty());
+        when(roleRegistry.find(Roles.ROLE_CLIENT)).thenReturn(Optional.empty());
 
         // Act
         var result = roleQueryService.handle(query);
@@ -1,22 +1,28 @@
 package com.thecoders.cartunnbackend.iam.application.internal.queryservices;
 
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllUsersQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserRoleAssignment;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByIdQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByUsernameQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByIdsQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUsersPageQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
 import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class UserQueryServiceImplTest {
 
@@ -31,37 +37,6 @@ class UserQueryServiceImplTest {
         MockitoAnnotations.openMocks(this);
     }
 
-    @Test
-    void handleGetAllUsers_GivenExistingUsers_ShouldReturnListOfUsers() {
-        // Arrange
-        GetAllUsersQuery query = new GetAllUsersQuery();
-        List<User> users = List.of(new User("user1", "password1"), new User("user2", "password2"));
-        when(userRepository.findAll()).thenReturn(users);
-
-        int expectedListSize = 2;
-
-        // Act
-        List<User> result = userQueryService.handle(query);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(expectedListSize, result.size());
-    }
-
-    @Test
-    void handleGetAllUsers_GivenNonExistingUsers_ShouldReturnEmptyList() {
-        // Arrange
-        GetAllUsersQuery query = new GetAllUsersQuery();
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
-
-        // Act
-        List<User> result = userQueryService.handle(query);
-
-        // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-    }
-
     @Test
     void handleGetUserById_GivenExistingUser_ShouldReturnUser() {
         // Arrange
@@ -121,4 +96,56 @@ class UserQueryServiceImplTest {
         // Assert
         assertFalse(result.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleGetUsersPage_GivenMoreUsersThanLimit_ShouldAttachRolesAndReturnNextCursor() {
+        // Arrange
+        GetUsersPageQuery query = new GetUsersPageQuery("jo_", Roles.ROLE_CLIENT, 10L, 2);
+        when(userRepository.findSummariesByUsernameLike("jo!_%", Roles.ROLE_CLIENT, 10L, Limit.of(3))).thenReturn(List.of(
+                new UserSummary(11L, "jo_1"), new UserSummary(12L, "jo_2"), new UserSummary(13L, "jo_3")));
+        when(userRepository.findRoleAssignmentsByUserIds(List.of(11L, 12L))).thenReturn(List.of(
+                new UserRoleAssignment(11L, Roles.ROLE_CLIENT),
+                new UserRoleAssignment(12L, Roles.ROLE_CLIENT),
+                new UserRoleAssignment(12L, Roles.ROLE_STAFF)));
+
+        // Act
+        var result = userQueryService.handle(query);
+
+        // Assert
+        assertEquals(List.of(
+                new UserSummary(11L, "jo_1", List.of(Roles.ROLE_CLIENT)),
+                new UserSummary(12L, "jo_2", List.of(Roles.ROLE_CLIENT, Roles.ROLE_STAFF))), result.items());
+        assertEquals(12L, result.nextCursor());
+        verify(userRepository, never()).findSummaries(any(), anyLong(), any());
+    }
+
+    @Test
+    void handleGetUsersPage_GivenNoMatchingUsers_ShouldSkipRolesQuery() {
+        // Arrange
+        GetUsersPageQuery query = new GetUsersPageQuery(null, null, null, 20);
+        when(userRepository.findSummaries(null, 0L, Limit.of(21))).thenReturn(List.of());
+
+        // Act
+        var result = userQueryService.handle(query);
+
+        // Assert
+        assertTrue(result.items().isEmpty());
+        assertTrue(result.next().isEmpty());
+        verify(userRepository, never()).findSummariesByUsernameLike(any(), any(), anyLong(), any());
+        verify(userRepository, never()).findRoleAssignmentsByUserIds(any());
+    }
+
+    @Test
+    void handleGetUserSummariesByIds_GivenIds_ShouldReturnSummariesFromOneQuery() {
+        // Arrange
+        var query = new GetUserSummariesByIdsQuery(Set.of(1L, 2L));
+        when(userRepository.findSummariesByIds(Set.of(1L, 2L))).thenReturn(List.of(new UserSummary(1L, "user1")));
+
+        // Act
+        List<UserSummary> result = userQueryService.handle(query);
+
+        // Assert
+        assertEquals(List.of(new UserSummary(1L, "user1")), result);
+        verify(userRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.thecoders.cartunnbackend.iam.application.internal.registries;
+
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void find_GivenSeededRoles_ShouldServeLookupsFromSingleLoad() {
+        // Arrange
+        var roles = Arrays.stream(Roles.values()).map(Role::new).toList();
+        when(roleRepository.findAll()).thenReturn(roles);
+        roleRegistry.reload();
+
+        // Act
+        var client = roleRegistry.find(Roles.ROLE_CLIENT);
+        var all = roleRegistry.findAll();
+
+        // Assert
+        assertSame(roles.get(Roles.ROLE_CLIENT.ordinal()), client.orElseThrow());
+        assertEquals(Roles.values().length, all.size());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void find_GivenRolesNotSeeded_ShouldReloadOnDemand() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of());
+
+        // Act
+        var result = roleRegistry.find(Roles.ROLE_CLIENT);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(roleRepository).findAll();
+    }
+}
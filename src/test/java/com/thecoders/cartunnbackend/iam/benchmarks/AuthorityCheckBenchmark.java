@@ -0,0 +1,51 @@
+package com.thecoders.cartunnbackend.iam.benchmarks;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services.RoleChecks;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of building the principal of a stateless token and checking that it holds ROLE_STAFF.
+ * previousPath reproduces the former flow: new SimpleGrantedAuthority instances from role names,
+ * checked by the hasRole('STAFF') expression root, which builds a set of authority names and compares strings.
+ * currentPath builds the principal from the shared authority list of its role mask and checks the mask with RoleChecks.
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main AuthorityCheckBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorityCheckBenchmark {
+    private final List<Roles> roles = List.of(Roles.ROLE_CLIENT, Roles.ROLE_STAFF);
+    private final RoleChecks roleChecks = new RoleChecks();
+
+    @Benchmark
+    public boolean previousPath() {
+        var authorities = roles.stream()
+                .map(Roles::name)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        var principal = new UserDetailsImpl("john", null, authorities);
+        var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        return new SecurityExpressionRoot(authentication) {
+        }.hasRole("STAFF");
+    }
+
+    @Benchmark
+    public boolean currentPath() {
+        var principal = UserDetailsImpl.build("john", roles);
+        var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        return roleChecks.hasRole(authentication, Roles.ROLE_STAFF);
+    }
+}
@@ -0,0 +1,63 @@
+package com.thecoders.cartunnbackend.iam.benchmarks;
+
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RevokedAccessTokenRepository;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.TokenMode;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.services.TokenServiceImpl;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.services.AccessTokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Per-request token handling cost of BearerAuthorizationRequestFilter.
+ * previousFilterPath reproduces the former flow: the signing key was rebuilt from the secret and a new parser
+ * verified the token twice, once to validate it and once to read the subject.
+ * currentFilterPath verifies the token once with the parser prebuilt by TokenServiceImpl.
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main BearerAuthorizationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BearerAuthorizationBenchmark {
+    private static final String SECRET = "WriteHereYourSecretStringFroTokenSigningCredentials";
+
+    private TokenServiceImpl tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenServiceImpl(SECRET, 15, TokenMode.LOOKUP, 15, revocationList());
+        token = tokenService.generateToken("john");
+    }
+
+    @Benchmark
+    public String previousFilterPath() {
+        Jwts.parser().verifyWith(previousSigningKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(previousSigningKey()).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String currentFilterPath() {
+        return tokenService.getValidatedClaimsFrom(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    private static SecretKey previousSigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static AccessTokenRevocationList revocationList() {
+        return new AccessTokenRevocationList(mock(RevokedAccessTokenRepository.class), 1000, 0.01);
+    }
+}
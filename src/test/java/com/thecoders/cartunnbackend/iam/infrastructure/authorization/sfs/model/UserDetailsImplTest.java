@@ -0,0 +1,40 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model;
+
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsImplTest {
+
+    @Test
+    void build_GivenUserRoles_ShouldShareAuthoritySingletons() {
+        // Arrange
+        var user = new User("john", "password", List.of(new Role(Roles.ROLE_CLIENT), new Role(Roles.ROLE_STAFF)));
+
+        // Act
+        UserDetailsImpl first = UserDetailsImpl.build(user);
+        UserDetailsImpl second = UserDetailsImpl.build("john", List.of(Roles.ROLE_STAFF, Roles.ROLE_CLIENT));
+
+        // Assert
+        assertEquals(List.of("ROLE_CLIENT", "ROLE_STAFF"), AuthorityUtils.authorityListToSet(first.getAuthorities()).stream().sorted().toList());
+        assertSame(first.getAuthorities(), second.getAuthorities());
+        assertSame(RoleAuthorities.of(Roles.ROLE_STAFF), second.getAuthorities().stream().skip(1).findFirst().orElseThrow());
+        assertTrue(first.hasRole(Roles.ROLE_STAFF));
+    }
+
+    @Test
+    void constructor_GivenAuthorityNames_ShouldDeriveRoleMask() {
+        // Act
+        var userDetails = new UserDetailsImpl("john", "password", AuthorityUtils.createAuthorityList("ROLE_CLIENT", "OTHER"));
+
+        // Assert
+        assertTrue(userDetails.hasRole(Roles.ROLE_CLIENT));
+        assertFalse(userDetails.hasRole(Roles.ROLE_STAFF));
+    }
+}
@@ -0,0 +1,99 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.iam.infrastructure.throttling.services.AuthenticationRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AuthenticationThrottlingRequestFilterTest {
+
+    @Mock
+    private AuthenticationRateLimiter rateLimiter;
+
+    private AuthenticationThrottlingRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        filter = new AuthenticationThrottlingRequestFilter(rateLimiter, new ObjectMapper());
+        when(rateLimiter.tryAcquireForClient(anyString())).thenReturn(Optional.empty());
+        when(rateLimiter.tryAcquireForUsername(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void doFilter_GivenAllowedSignIn_ShouldPassBodyThrough() throws Exception {
+        // Arrange
+        var chain = new MockFilterChain();
+
+        // Act
+        var response = signIn("{\"username\":\"john\",\"password\":\"secret\"}", chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        var forwardedBody = chain.getRequest().getInputStream().readAllBytes();
+        assertEquals("{\"username\":\"john\",\"password\":\"secret\"}", new String(forwardedBody, StandardCharsets.UTF_8));
+        verify(rateLimiter).tryAcquireForUsername("john");
+    }
+
+    @Test
+    void doFilter_GivenUsernameOverBudget_ShouldReturnTooManyRequests() throws Exception {
+        // Arrange
+        when(rateLimiter.tryAcquireForUsername("john")).thenReturn(Optional.of(Duration.ofMillis(1500)));
+        var chain = new MockFilterChain();
+
+        // Act
+        var response = signIn("{\"username\":\"john\",\"password\":\"secret\"}", chain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_GivenClientOverBudget_ShouldRejectWithoutReadingBody() throws Exception {
+        // Arrange
+        when(rateLimiter.tryAcquireForClient("10.0.0.1")).thenReturn(Optional.of(Duration.ofSeconds(3)));
+
+        // Act
+        var response = signIn("{\"username\":\"john\",\"password\":\"secret\"}", new MockFilterChain());
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        verify(rateLimiter, never()).tryAcquireForUsername(anyString());
+    }
+
+    @Test
+    void doFilter_GivenOtherEndpoint_ShouldNotThrottle() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("POST", "/api/v1/carts");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private MockHttpServletResponse signIn(String body, MockFilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/authentication/sign-in");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,109 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.pipeline;
+
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services.UserDetailsServiceImpl;
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RevokedAccessTokenRepository;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.TokenMode;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.services.TokenServiceImpl;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.services.AccessTokenRevocationList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BearerAuthorizationRequestFilterTest {
+    private static final String SECRET = "WriteHereYourSecretStringFroTokenSigningCredentials";
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final TokenServiceImpl lookupTokenService = tokenService(TokenMode.LOOKUP);
+    private final TokenServiceImpl statelessTokenService = tokenService(TokenMode.STATELESS);
+    private final User user = new User("john", "password", List.of(new Role(Roles.ROLE_STAFF)));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(userDetailsService.loadPrincipalByUsername("john"))
+                .thenReturn(UserDetailsImpl.build("john", List.of(Roles.ROLE_CLIENT)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_GivenLookupTokenInLookupMode_ShouldLoadPrincipal() throws Exception {
+        // Act
+        filter(lookupTokenService, lookupTokenService.generateToken(user));
+
+        // Assert
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertTrue(((UserDetailsImpl) authentication.getPrincipal()).hasRole(Roles.ROLE_CLIENT));
+        verify(userDetailsService).loadPrincipalByUsername("john");
+    }
+
+    @Test
+    void doFilter_GivenStatelessTokenInStatelessMode_ShouldUseEmbeddedRoles() throws Exception {
+        // Act
+        filter(statelessTokenService, statelessTokenService.generateToken(user));
+
+        // Assert
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertTrue(((UserDetailsImpl) authentication.getPrincipal()).hasRole(Roles.ROLE_STAFF));
+        verify(userDetailsService, never()).loadPrincipalByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_GivenStatelessTokenInLookupMode_ShouldNotAuthenticate() throws Exception {
+        // Act
+        filter(lookupTokenService, statelessTokenService.generateToken(user));
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, never()).loadPrincipalByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_GivenLookupTokenInStatelessMode_ShouldNotAuthenticate() throws Exception {
+        // Act
+        filter(statelessTokenService, lookupTokenService.generateToken(user));
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, never()).loadPrincipalByUsername(anyString());
+    }
+
+    private void filter(TokenServiceImpl tokenService, String token) throws Exception {
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService,
+                new AntPathRequestMatcher("/api/v1/authentication/**"));
+        var request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader("Authorization", "Bearer " + token);
+        var chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+    }
+
+    private static TokenServiceImpl tokenService(TokenMode mode) {
+        return new TokenServiceImpl(SECRET, 15, mode, 15,
+                new AccessTokenRevocationList(mock(RevokedAccessTokenRepository.class), 1000, 0.01));
+    }
+}
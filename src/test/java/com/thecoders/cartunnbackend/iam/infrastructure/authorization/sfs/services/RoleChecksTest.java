@@ -0,0 +1,64 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services;
+
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleChecksTest {
+
+    private final RoleChecks roleChecks = new RoleChecks();
+
+    @Test
+    void hasRole_GivenPrincipalWithRole_ShouldReturnTrue() {
+        // Arrange
+        Authentication authentication = authenticationOf(UserDetailsImpl.build("john", List.of(Roles.ROLE_STAFF)));
+
+        // Act & Assert
+        assertTrue(roleChecks.hasRole(authentication, Roles.ROLE_STAFF));
+        assertFalse(roleChecks.hasRole(authentication, Roles.ROLE_CLIENT));
+        assertTrue(roleChecks.hasAnyRole(authentication, Roles.ROLE_CLIENT, Roles.ROLE_STAFF));
+    }
+
+    @Test
+    void hasRole_GivenPrincipalOtherThanUserDetailsImpl_ShouldFallBackToAuthorityNames() {
+        // Arrange
+        Authentication authentication = new UsernamePasswordAuthenticationToken("john", null,
+                AuthorityUtils.createAuthorityList("ROLE_STAFF"));
+
+        // Act & Assert
+        assertTrue(roleChecks.hasRole(authentication, Roles.ROLE_STAFF));
+        assertFalse(roleChecks.hasRole(authentication, Roles.ROLE_CLIENT));
+    }
+
+    @Test
+    void hasRole_GivenUnauthenticatedRequest_ShouldReturnFalse() {
+        // Act & Assert
+        assertFalse(roleChecks.hasRole(null, Roles.ROLE_STAFF));
+        assertFalse(roleChecks.hasRole(new UsernamePasswordAuthenticationToken("john", null), Roles.ROLE_STAFF));
+    }
+
+    @Test
+    void hasRole_GivenRoleNameInExpression_ShouldConvertItToRoles() {
+        // Arrange
+        var context = new StandardEvaluationContext();
+        context.setVariable("roleChecks", roleChecks);
+        context.setVariable("authentication", authenticationOf(UserDetailsImpl.build("john", List.of(Roles.ROLE_STAFF))));
+        var expression = new SpelExpressionParser().parseExpression("#roleChecks.hasRole(#authentication, 'ROLE_STAFF')");
+
+        // Act & Assert
+        assertEquals(Boolean.TRUE, expression.getValue(context, Boolean.class));
+    }
+
+    private static Authentication authenticationOf(UserDetailsImpl userDetails) {
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+}
@@ -0,0 +1,115 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.services;
+
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.events.UserAuthoritiesChangedEvent;
+import com.thecoders.cartunnbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.caching.configuration.CachingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CachingConfiguration.class, UserDetailsServiceImpl.class})
+@TestPropertySource(properties = {
+        "spring.cache.cache-names=user-authorities",
+        "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=10m,recordStats"
+})
+class UserDetailsServiceImplTest {
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CachingConfiguration.USER_AUTHORITIES_CACHE).clear();
+    }
+
+    @Test
+    void loadPrincipalByUsername_GivenRepeatedLookups_ShouldQueryRepositoryOnce() {
+        // Arrange
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(new User("john", "password")));
+
+        // Act
+        UserDetailsImpl first = userDetailsService.loadPrincipalByUsername("john");
+        UserDetailsImpl second = userDetailsService.loadPrincipalByUsername("john");
+
+        // Assert
+        assertEquals("john", first.getUsername());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUsername("john");
+    }
+
+    @Test
+    void loadPrincipalByUsername_GivenCachedPrincipal_ShouldNotHoldPassword() {
+        // Arrange
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(new User("john", "password")));
+
+        // Act
+        userDetailsService.loadPrincipalByUsername("john");
+
+        // Assert
+        var cached = cacheManager.getCache(CachingConfiguration.USER_AUTHORITIES_CACHE).get("john", UserDetailsImpl.class);
+        assertNotNull(cached);
+        assertNull(cached.getPassword());
+    }
+
+    @Test
+    void loadUserByUsername_GivenRepeatedLookups_ShouldReturnPasswordAndNotCache() {
+        // Arrange
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(new User("john", "password")));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername("john");
+        userDetailsService.loadUserByUsername("john");
+
+        // Assert
+        assertEquals("password", first.getPassword());
+        verify(userRepository, times(2)).findByUsername("john");
+    }
+
+    @Test
+    void onUserAuthoritiesChanged_GivenCachedPrincipal_ShouldReloadFromRepository() {
+        // Arrange
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(new User("john", "password")));
+        userDetailsService.loadPrincipalByUsername("john");
+
+        // Act
+        eventPublisher.publishEvent(new UserAuthoritiesChangedEvent("john"));
+        userDetailsService.loadPrincipalByUsername("john");
+
+        // Assert
+        verify(userRepository, times(2)).findByUsername("john");
+    }
+
+    @Test
+    void loadPrincipalByUsername_GivenUnknownUser_ShouldNotCacheMiss() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadPrincipalByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadPrincipalByUsername("ghost"));
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+}
@@ -0,0 +1,127 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.hashing.bcrypt.services;
+
+import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HashingServiceImpl hashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hashingService != null) hashingService.shutdown();
+    }
+
+    @Test
+    void encode_GivenPassword_ShouldProduceMatchingHashAndRecordLatency() {
+        // Arrange
+        hashingService = new HashingServiceImpl(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), 1, 1, meterRegistry);
+
+        // Act
+        String hash = hashingService.encode("password");
+
+        // Assert
+        assertTrue(hashingService.matches("password", hash));
+        assertFalse(hashingService.matches("other", hash));
+        assertEquals(1, meterRegistry.get("iam.hashing.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("iam.hashing.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void encodeAll_GivenPasswords_ShouldReturnMatchingHashesInOrder() {
+        // Arrange
+        hashingService = new HashingServiceImpl(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), 3, 10, meterRegistry);
+        var passwords = List.of("first", "second", "third", "fourth");
+
+        // Act
+        List<String> hashes = hashingService.encodeAll(passwords);
+
+        // Assert
+        assertEquals(passwords.size(), hashes.size());
+        for (int i = 0; i < passwords.size(); i++) assertTrue(hashingService.matches(passwords.get(i), hashes.get(i)));
+    }
+
+    @Test
+    void defaultBulkThreads_GivenProcessorsAndInteractiveThreads_ShouldLeaveInteractiveProcessorsFree() {
+        // Act & Assert
+        assertEquals(4, HashingServiceImpl.defaultBulkThreads(8, 4));
+        assertEquals(1, HashingServiceImpl.defaultBulkThreads(4, 4));
+        assertEquals(1, HashingServiceImpl.defaultBulkThreads(2, 4));
+    }
+
+    @Test
+    void encodeAll_GivenMorePasswordsThanBulkQueue_ShouldRejectWithoutBlockingInteractivePool() {
+        // Arrange
+        hashingService = new HashingServiceImpl(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), 1, 2, meterRegistry);
+        var passwords = IntStream.range(0, 100).mapToObj(String::valueOf).toList();
+
+        // Act & Assert
+        assertThrows(HashingUnavailableException.class, () -> hashingService.encodeAll(passwords));
+        assertTrue(hashingService.matches("password", hashingService.encode("password")));
+    }
+
+    @Test
+    void encode_GivenSaturatedPool_ShouldRejectImmediately() throws Exception {
+        // Arrange
+        var started = new CountDownLatch(1);
+        hashingService = new HashingServiceImpl(blockingEncoder(started), 1, 1, Duration.ofSeconds(5), 1, 1, meterRegistry);
+        var running = CompletableFuture.runAsync(() -> hashingService.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var queued = CompletableFuture.runAsync(() -> hashingService.encode("second"));
+        waitForQueuedTask();
+
+        // Act & Assert
+        assertThrows(HashingUnavailableException.class, () -> hashingService.encode("third"));
+        assertEquals(1.0, meterRegistry.get("iam.hashing.rejected").counter().count());
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void encode_GivenWaitLongerThanMaxWait_ShouldFail() throws Exception {
+        // Arrange
+        var started = new CountDownLatch(1);
+        hashingService = new HashingServiceImpl(blockingEncoder(started), 1, 1, Duration.ofMillis(50), 1, 1, meterRegistry);
+
+        // Act & Assert
+        assertThrows(HashingUnavailableException.class, () -> hashingService.encode("password"));
+    }
+
+    private BCryptPasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "bcrypt-hashing").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.hashing.calibration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderCalibratorTest {
+
+    @Test
+    void calibrate_GivenDoublingCost_ShouldPickHighestCostWithinTarget() {
+        // Arrange: 2^cost microseconds per hash, so cost 15 takes 32.8 ms and cost 16 takes 65.5 ms
+        var measuredCosts = new ArrayList<Integer>();
+
+        // Act
+        int cost = PasswordEncoderCalibrator.calibrate(HashingAlgorithm.BCRYPT, Duration.ofMillis(50), measuredCost -> {
+            measuredCosts.add(measuredCost);
+            return (1L << measuredCost) * 1_000;
+        });
+
+        // Assert
+        assertEquals(15, cost);
+        assertEquals(List.of(10, 11, 12, 13, 14, 15), measuredCosts);
+    }
+
+    @Test
+    void calibrate_GivenMinimumCostAboveTarget_ShouldKeepMinimumCost() {
+        // Act
+        int cost = PasswordEncoderCalibrator.calibrate(HashingAlgorithm.BCRYPT, Duration.ofMillis(1), measuredCost -> 5_000_000L);
+
+        // Assert
+        assertEquals(HashingAlgorithm.BCRYPT.minimumCost(), cost);
+    }
+
+    @Test
+    void calibrate_GivenFastHost_ShouldNotExceedMaximumCost() {
+        // Act
+        int cost = PasswordEncoderCalibrator.calibrate(HashingAlgorithm.ARGON2, Duration.ofSeconds(1), measuredCost -> 1_000L);
+
+        // Assert
+        assertEquals(HashingAlgorithm.ARGON2.maximumCost(), cost);
+    }
+
+    @Test
+    void delegatingEncoderFor_GivenLegacyOrWeakerHashes_ShouldMatchAndRequestUpgrade() {
+        // Arrange
+        var passwordEncoder = HashingAlgorithm.BCRYPT.delegatingEncoderFor(11);
+        var legacyHash = new BCryptPasswordEncoder(10).encode("password");
+        var weakerHash = "{bcrypt}" + new BCryptPasswordEncoder(10).encode("password");
+        var currentHash = passwordEncoder.encode("password");
+
+        // Assert
+        assertTrue(passwordEncoder.matches("password", legacyHash));
+        assertTrue(passwordEncoder.upgradeEncoding(legacyHash));
+        assertTrue(passwordEncoder.matches("password", weakerHash));
+        assertTrue(passwordEncoder.upgradeEncoding(weakerHash));
+        assertTrue(currentHash.startsWith("{bcrypt}"));
+        assertFalse(passwordEncoder.upgradeEncoding(currentHash));
+    }
+
+    @Test
+    void delegatingEncoderFor_GivenArgon2_ShouldUpgradeBcryptHashes() {
+        // Arrange
+        var passwordEncoder = HashingAlgorithm.ARGON2.delegatingEncoderFor(2);
+        var bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password");
+
+        // Act
+        var argon2Hash = passwordEncoder.encode("password");
+
+        // Assert
+        assertTrue(argon2Hash.startsWith("{argon2}"));
+        assertTrue(passwordEncoder.matches("password", argon2Hash));
+        assertTrue(passwordEncoder.matches("password", bcryptHash));
+        assertTrue(passwordEncoder.upgradeEncoding(bcryptHash));
+        assertFalse(passwordEncoder.upgradeEncoding(argon2Hash));
+    }
+}
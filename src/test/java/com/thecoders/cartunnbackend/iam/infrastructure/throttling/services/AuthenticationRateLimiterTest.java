@@ -0,0 +1,58 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.throttling.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private AuthenticationRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AuthenticationRateLimiter(3, 2, Duration.ofMinutes(1), 1000, now::get);
+    }
+
+    @Test
+    void tryAcquireForUsername_GivenBudgetExhausted_ShouldReturnWaitUntilNextToken() {
+        // Arrange
+        rateLimiter.tryAcquireForUsername("john");
+        rateLimiter.tryAcquireForUsername("john");
+
+        // Act
+        var wait = rateLimiter.tryAcquireForUsername("john");
+
+        // Assert
+        assertEquals(Duration.ofSeconds(30), wait.orElseThrow());
+        assertTrue(rateLimiter.tryAcquireForUsername("jane").isEmpty());
+    }
+
+    @Test
+    void tryAcquireForUsername_GivenDifferentCase_ShouldShareBudget() {
+        // Arrange
+        rateLimiter.tryAcquireForUsername("John");
+        rateLimiter.tryAcquireForUsername(" JOHN ");
+
+        // Act & Assert
+        assertTrue(rateLimiter.tryAcquireForUsername("john").isPresent());
+    }
+
+    @Test
+    void tryAcquireForClient_GivenTimeElapsed_ShouldRefillTokens() {
+        // Arrange
+        for (int i = 0; i < 3; i++) assertTrue(rateLimiter.tryAcquireForClient("10.0.0.1").isEmpty());
+        assertTrue(rateLimiter.tryAcquireForClient("10.0.0.1").isPresent());
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        // Assert
+        assertTrue(rateLimiter.tryAcquireForClient("10.0.0.1").isEmpty());
+        assertTrue(rateLimiter.tryAcquireForClient("10.0.0.1").isPresent());
+    }
+}
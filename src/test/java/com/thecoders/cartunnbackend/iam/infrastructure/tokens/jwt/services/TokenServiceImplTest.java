@@ -0,0 +1,143 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.services;
+
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RevokedAccessTokenRepository;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.jwt.TokenMode;
+import com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.services.AccessTokenRevocationList;
+import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TokenServiceImplTest {
+    private static final String SECRET = "WriteHereYourSecretStringFroTokenSigningCredentials";
+
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenServiceImpl(SECRET, 15, TokenMode.LOOKUP, 15, revocationList());
+    }
+
+    @Test
+    void getValidatedClaimsFrom_GivenGeneratedToken_ShouldReturnSubject() {
+        // Arrange
+        String token = tokenService.generateToken("john");
+
+        // Act
+        Optional<Claims> claims = tokenService.getValidatedClaimsFrom(token);
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals("john", claims.get().getSubject());
+        assertTrue(tokenService.validateToken(token));
+        assertEquals("john", tokenService.getUsernameFromToken(token));
+    }
+
+    @Test
+    void getValidatedClaimsFrom_GivenTokenSignedWithAnotherKey_ShouldReturnEmpty() {
+        // Arrange
+        String token = new TokenServiceImpl(SECRET + "Rotated", 15, TokenMode.LOOKUP, 15, revocationList()).generateToken("john");
+
+        // Act
+        Optional<Claims> claims = tokenService.getValidatedClaimsFrom(token);
+
+        // Assert
+        assertTrue(claims.isEmpty());
+        assertFalse(tokenService.validateToken(token));
+    }
+
+    @Test
+    void getValidatedClaimsFrom_GivenExpiredToken_ShouldReturnEmpty() {
+        // Arrange
+        String token = new TokenServiceImpl(SECRET, -1, TokenMode.LOOKUP, 15, revocationList()).generateToken("john");
+
+        // Act
+        Optional<Claims> claims = tokenService.getValidatedClaimsFrom(token);
+
+        // Assert
+        assertTrue(claims.isEmpty());
+    }
+
+    @Test
+    void getValidatedClaimsFrom_GivenMalformedToken_ShouldReturnEmpty() {
+        // Act
+        Optional<Claims> claims = tokenService.getValidatedClaimsFrom("not-a-token");
+
+        // Assert
+        assertTrue(claims.isEmpty());
+    }
+
+    @Test
+    void generateToken_GivenStatelessMode_ShouldEmbedRoles() {
+        // Arrange
+        var statelessTokenService = new TokenServiceImpl(SECRET, 15, TokenMode.STATELESS, 15, revocationList());
+        var user = new User("john", "password", List.of(new Role(Roles.ROLE_STAFF)));
+        String token = statelessTokenService.generateToken(user);
+
+        // Act
+        Claims claims = statelessTokenService.getValidatedClaimsFrom(token).orElseThrow();
+
+        // Assert
+        assertEquals("john", claims.getSubject());
+        assertEquals(Optional.of(List.of(Roles.ROLE_STAFF)), statelessTokenService.getEmbeddedRolesFrom(claims));
+    }
+
+    @Test
+    void generateToken_GivenLookupMode_ShouldNotEmbedRoles() {
+        // Arrange
+        var user = new User("john", "password", List.of(new Role(Roles.ROLE_STAFF)));
+        String token = tokenService.generateToken(user);
+
+        // Act
+        Claims claims = tokenService.getValidatedClaimsFrom(token).orElseThrow();
+
+        // Assert
+        assertTrue(tokenService.getEmbeddedRolesFrom(claims).isEmpty());
+    }
+
+    @Test
+    void revokeToken_GivenValidToken_ShouldRejectItAfterwards() {
+        // Arrange
+        String token = tokenService.generateToken("john");
+        String otherToken = tokenService.generateToken("john");
+
+        // Act
+        boolean revoked = tokenService.revokeToken(token);
+
+        // Assert
+        assertTrue(revoked);
+        assertTrue(tokenService.getValidatedClaimsFrom(token).isEmpty());
+        assertTrue(tokenService.getValidatedClaimsFrom(otherToken).isPresent());
+    }
+
+    @Test
+    void revokeToken_GivenInvalidToken_ShouldReturnFalse() {
+        // Act & Assert
+        assertFalse(tokenService.revokeToken("not-a-token"));
+    }
+
+    @Test
+    void generateRefreshToken_ShouldReturnRandomTokensWithStableHashes() {
+        // Act
+        String refreshToken = tokenService.generateRefreshToken();
+        String otherRefreshToken = tokenService.generateRefreshToken();
+
+        // Assert
+        assertNotEquals(refreshToken, otherRefreshToken);
+        assertEquals(tokenService.hashRefreshToken(refreshToken), tokenService.hashRefreshToken(refreshToken));
+        assertNotEquals(tokenService.hashRefreshToken(refreshToken), tokenService.hashRefreshToken(otherRefreshToken));
+        assertEquals(64, tokenService.hashRefreshToken(refreshToken).length());
+    }
+
+    private static AccessTokenRevocationList revocationList() {
+        return new AccessTokenRevocationList(mock(RevokedAccessTokenRepository.class), 1000, 0.01);
+    }
+}
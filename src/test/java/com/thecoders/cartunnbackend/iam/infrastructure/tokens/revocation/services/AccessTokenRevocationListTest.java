@@ -0,0 +1,63 @@
+package com.thecoders.cartunnbackend.iam.infrastructure.tokens.revocation.services;
+
+import com.thecoders.cartunnbackend.iam.infrastructure.persistence.jpa.repositories.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AccessTokenRevocationListTest {
+
+    @Mock
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        revocationList = new AccessTokenRevocationList(revokedAccessTokenRepository, 1000, 0.01);
+    }
+
+    @Test
+    void isRevoked_GivenTokenNeverRevoked_ShouldNotQueryDatabase() {
+        // Act
+        boolean revoked = revocationList.isRevoked("token-id");
+
+        // Assert
+        assertFalse(revoked);
+        verify(revokedAccessTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void isRevoked_GivenTokenRevokedOnThisInstance_ShouldPersistAndRejectIt() {
+        // Act
+        revocationList.revoke("token-id", new Date(System.currentTimeMillis() + 60_000));
+
+        // Assert
+        assertTrue(revocationList.isRevoked("token-id"));
+        verify(revokedAccessTokenRepository).save(any());
+    }
+
+    @Test
+    void rebuild_GivenTokenRevokedOnAnotherInstance_ShouldConfirmAgainstDatabase() {
+        // Arrange
+        when(revokedAccessTokenRepository.findTokenIdsExpiringAfter(any(Date.class))).thenReturn(List.of("token-id"));
+        when(revokedAccessTokenRepository.existsById("token-id")).thenReturn(true);
+
+        // Act
+        revocationList.rebuild();
+
+        // Assert
+        assertTrue(revocationList.isRevoked("token-id"));
+        verify(revokedAccessTokenRepository).deleteExpired(any(Date.class));
+    }
+}
@@ -0,0 +1,121 @@
+package com.thecoders.cartunnbackend.iam.interfaces.acl;
+
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByIdsQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserSummariesByUsernamesQuery;
+import com.thecoders.cartunnbackend.iam.domain.services.UserQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserReferenceLoaderTest {
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @InjectMocks
+    private UserReferenceLoader userReferenceLoader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void loadUsernames_GivenKnownAndUnknownIds_ShouldQueryOnceAndLeaveUnknownOut() {
+        // Arrange
+        when(userQueryService.handle(new GetUserSummariesByIdsQuery(Set.of(1L, 2L, 3L))))
+                .thenReturn(List.of(new UserSummary(1L, "user1"), new UserSummary(2L, "user2")));
+
+        // Act
+        Map<Long, String> result = userReferenceLoader.loadUsernames(List.of(1L, 2L, 3L, 1L));
+
+        // Assert
+        assertEquals(Map.of(1L, "user1", 2L, "user2"), result);
+        verify(userQueryService, times(1)).handle(any(GetUserSummariesByIdsQuery.class));
+    }
+
+    @Test
+    void loadUsernames_GivenIdsLoadedEarlierInTheRequest_ShouldOnlyQueryNewIds() {
+        // Arrange
+        when(userQueryService.handle(any(GetUserSummariesByIdsQuery.class)))
+                .thenReturn(List.of(new UserSummary(1L, "user1")))
+                .thenReturn(List.of(new UserSummary(4L, "user4")));
+        userReferenceLoader.loadUsernames(List.of(1L, 2L));
+
+        // Act
+        Map<Long, String> result = userReferenceLoader.loadUsernames(List.of(1L, 2L, 4L));
+
+        // Assert
+        assertEquals(Map.of(1L, "user1", 4L, "user4"), result);
+        verify(userQueryService).handle(new GetUserSummariesByIdsQuery(Set.of(4L)));
+        verify(userQueryService, times(2)).handle(any(GetUserSummariesByIdsQuery.class));
+    }
+
+    @Test
+    void loadUsernames_GivenMoreIdsThanQueryLimit_ShouldQueryInChunks() {
+        // Arrange
+        var userIds = LongStream.rangeClosed(1, GetUserSummariesByIdsQuery.MAX_IDS + 1L).boxed().toList();
+        when(userQueryService.handle(any(GetUserSummariesByIdsQuery.class))).thenReturn(List.of());
+
+        // Act
+        userReferenceLoader.loadUsernames(userIds);
+
+        // Assert
+        verify(userQueryService, times(2)).handle(any(GetUserSummariesByIdsQuery.class));
+    }
+
+    @Test
+    void loadUserIds_GivenUsernamesResolvedByIdLookup_ShouldNotQueryAgain() {
+        // Arrange
+        when(userQueryService.handle(any(GetUserSummariesByIdsQuery.class))).thenReturn(List.of(new UserSummary(1L, "user1")));
+        userReferenceLoader.loadUsernames(List.of(1L));
+
+        // Act
+        Map<String, Long> result = userReferenceLoader.loadUserIds(List.of("user1"));
+
+        // Assert
+        assertEquals(Map.of("user1", 1L), result);
+        verify(userQueryService, never()).handle(any(GetUserSummariesByUsernamesQuery.class));
+    }
+
+    @Test
+    void loadUserIds_GivenUsernamesInMixedCase_ShouldQueryOnceAndResolveEachAsGiven() {
+        // Arrange
+        when(userQueryService.handle(new GetUserSummariesByUsernamesQuery(Set.of("john"))))
+                .thenReturn(List.of(new UserSummary(1L, "John")));
+        userReferenceLoader.loadUserIds(List.of("John", "JOHN"));
+
+        // Act
+        Map<String, Long> result = userReferenceLoader.loadUserIds(List.of("john", "JOHN"));
+
+        // Assert
+        assertEquals(Map.of("john", 1L, "JOHN", 1L), result);
+        verify(userQueryService, times(1)).handle(any(GetUserSummariesByUsernamesQuery.class));
+    }
+
+    @Test
+    void prime_GivenUserCreatedAfterAMiss_ShouldReplaceTheMiss() {
+        // Arrange
+        when(userQueryService.handle(any(GetUserSummariesByUsernamesQuery.class))).thenReturn(List.of());
+        userReferenceLoader.loadUserIds(List.of("user1"));
+
+        // Act
+        userReferenceLoader.prime(1L, "user1");
+
+        // Assert
+        assertEquals(Map.of("user1", 1L), userReferenceLoader.loadUserIds(List.of("user1")));
+        verify(userQueryService, times(1)).handle(any(GetUserSummariesByUsernamesQuery.class));
+    }
+}
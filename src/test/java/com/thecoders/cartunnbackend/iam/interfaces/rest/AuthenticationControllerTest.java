@@ -1,6 +1,8 @@
 package com.thecoders.cartunnbackend.iam.interfaces.rest;
 
+import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingUnavailableException;
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.RefreshTokenCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignInCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.commands.SignUpCommand;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
@@ -14,7 +16,8 @@ import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.AuthenticatedU
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.SignInCommandFromResourceAssembler;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.SignUpCommandFromResourceAssembler;
 import com.thecoders.cartunnbackend.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
@@ -34,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -103,6 +107,22 @@ class AuthenticationControllerTest {
         }
     }
 
+    @Test
+    void signUp_GivenTakenUsername_ShouldReturnConflictStatus() throws Exception {
+        // Arrange
+        when(userCommandService.handle(any(SignUpCommand.class)))
+                .thenThrow(new ResourceConflictException("Username already exists", null));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/authentication/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"existingUser\",\"password\":\"password\",\"roles\":[\"ROLE_CLIENT\"]}"));
+
+        // Assert
+        result.andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Username already exists"));
+    }
+
     @Test
     void signIn_GivenValidResource_ShouldReturnAuthenticatedUser() throws Exception {
         // Arrange
@@ -110,7 +130,8 @@ class AuthenticationControllerTest {
         SignInCommand signInCommand = new SignInCommand("user1", "password");
         User user = new User("user1", "hashedPassword", List.of(new Role(Roles.ROLE_CLIENT)));
         String token = "generatedToken";
-        AuthenticatedUserResource authenticatedUserResource = new AuthenticatedUserResource(1L, "user1", token);
+        String refreshToken = "refreshToken";
+        AuthenticatedUserResource authenticatedUserResource = new AuthenticatedUserResource(1L, "user1", token, refreshToken);
 
         try (MockedStatic<SignInCommandFromResourceAssembler> mockedAssembler = mockStatic(SignInCommandFromResourceAssembler.class);
              MockedStatic<AuthenticatedUserResourceFromEntityAssembler> mockedUserAssembler = mockStatic(AuthenticatedUserResourceFromEntityAssembler.class)) {
@@ -119,9 +140,9 @@ class AuthenticationControllerTest {
                     .thenReturn(signInCommand);
 
             when(userCommandService.handle(any(SignInCommand.class)))
-                    .thenReturn(Optional.of(ImmutablePair.of(user, token)));
+                    .thenReturn(Optional.of(ImmutableTriple.of(user, token, refreshToken)));
 
-            mockedUserAssembler.when(() -> AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(user, token))
+            mockedUserAssembler.when(() -> AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(user, token, refreshToken))
                     .thenReturn(authenticatedUserResource);
 
             // Act
@@ -133,10 +154,45 @@ class AuthenticationControllerTest {
             result.andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(1L))
                     .andExpect(jsonPath("$.username").value("user1"))
-                    .andExpect(jsonPath("$.token").value("generatedToken"));
+                    .andExpect(jsonPath("$.token").value("generatedToken"))
+                    .andExpect(jsonPath("$.refreshToken").value("refreshToken"));
         }
     }
 
+    @Test
+    void refresh_GivenActiveRefreshToken_ShouldReturnNewTokens() throws Exception {
+        // Arrange
+        User user = new User("user1", "hashedPassword", List.of(new Role(Roles.ROLE_CLIENT)));
+        when(userCommandService.handle(new RefreshTokenCommand("refreshToken")))
+                .thenReturn(Optional.of(ImmutableTriple.of(user, "newToken", "rotatedRefreshToken")));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/authentication/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"refreshToken\"}"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("newToken"))
+                .andExpect(jsonPath("$.refreshToken").value("rotatedRefreshToken"));
+    }
+
+    @Test
+    void refresh_GivenReusedRefreshToken_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        when(userCommandService.handle(any(RefreshTokenCommand.class)))
+                .thenThrow(new IllegalArgumentException("Refresh token already used"));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/authentication/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"refreshToken\"}"));
+
+        // Assert
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Refresh token already used"));
+    }
+
     @Test
     void signIn_GivenInvalidUsername_ShouldReturnNotFoundStatus() throws Exception {
         // Arrange
@@ -184,4 +240,21 @@ class AuthenticationControllerTest {
             result.andExpect(status().isNotFound());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void signIn_GivenHashingCapacityExhausted_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        when(userCommandService.handle(any(SignInCommand.class)))
+                .thenThrow(new HashingUnavailableException("Too many concurrent authentication requests"));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/authentication/sign-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"user1\",\"password\":\"password\"}"));
+
+        // Assert
+        result.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Too many concurrent authentication requests"));
+    }
+}
@@ -1,10 +1,16 @@
 package com.thecoders.cartunnbackend.iam.interfaces.rest;
 
+import com.thecoders.cartunnbackend.iam.application.internal.outboundservices.hashing.HashingUnavailableException;
 import com.thecoders.cartunnbackend.iam.domain.model.aggregates.User;
 import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
-import com.thecoders.cartunnbackend.iam.domain.model.queries.GetAllUsersQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.commands.ProvisionUsersCommand;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.ProvisionedUsers;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserPage;
+import com.thecoders.cartunnbackend.iam.domain.model.projections.UserSummary;
 import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUserByIdQuery;
+import com.thecoders.cartunnbackend.iam.domain.model.queries.GetUsersPageQuery;
 import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.iam.domain.services.UserCommandService;
 import com.thecoders.cartunnbackend.iam.domain.services.UserQueryService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,9 +28,12 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @WebMvcTest(controllers = UsersController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -37,23 +46,41 @@ class UsersControllerTest {
     @MockBean
     private UserQueryService userQueryService;
 
+    @MockBean
+    private UserCommandService userCommandService;
+
     @Test
-    void getAllUsers_GivenValidQuery_ShouldReturnOkAndListOfUser() throws Exception {
+    void getAllUsers_GivenValidQuery_ShouldReturnOkAndPageOfUsers() throws Exception {
         // Arrange
-        User user1 = new User("user1", "hashedPassword", List.of(new Role(Roles.ROLE_CLIENT)));
-        User user2 = new User("user2", "hashedPassword", List.of(new Role(Roles.ROLE_CLIENT)));
-        List<User> users = List.of(user1, user2);
+        UserPage page = new UserPage(List.of(
+                new UserSummary(1L, "user1", List.of(Roles.ROLE_CLIENT)),
+                new UserSummary(2L, "user2", List.of(Roles.ROLE_STAFF))), 2L);
 
-        when(userQueryService.handle(any(GetAllUsersQuery.class))).thenReturn(users);
+        when(userQueryService.handle(new GetUsersPageQuery("user", Roles.ROLE_CLIENT, null, 2))).thenReturn(page);
 
         // Act
         ResultActions result = mockMvc.perform(get("/api/v1/users")
+                .param("limit", "2")
+                .param("username", "user")
+                .param("role", "ROLE_CLIENT")
                 .contentType(MediaType.APPLICATION_JSON));
 
         // Assert
         result.andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].username").value("user1"))
-                .andExpect(jsonPath("$[1].username").value("user2"));
+                .andExpect(jsonPath("$.items[0].username").value("user1"))
+                .andExpect(jsonPath("$.items[1].roles[0]").value("ROLE_STAFF"))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    @Test
+    void getAllUsers_GivenUnknownRole_ShouldReturnBadRequest() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(get("/api/v1/users")
+                .param("role", "ROLE_UNKNOWN")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // Assert
+        result.andExpect(status().isBadRequest());
     }
 
     @Test
@@ -83,4 +110,51 @@ class UsersControllerTest {
         // Assert
         result.andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void provisionUsers_GivenValidResource_ShouldReturnCreatedAndSkippedUsers() throws Exception {
+        // Arrange
+        when(userCommandService.handle(any(ProvisionUsersCommand.class))).thenReturn(new ProvisionedUsers(
+                List.of(new UserSummary(10L, "user1", List.of(Roles.ROLE_CLIENT))), List.of("taken")));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"users\":[{\"username\":\"user1\",\"password\":\"password\"},{\"username\":\"taken\",\"password\":\"password\"}]}"));
+
+        // Assert
+        result.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created[0].id").value(10))
+                .andExpect(jsonPath("$.skippedUsernames[0]").value("taken"));
+    }
+
+    @Test
+    void provisionUsers_GivenDuplicateUsernames_ShouldReturnBadRequest() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"users\":[{\"username\":\"user1\",\"password\":\"password\"},{\"username\":\"user1\",\"password\":\"password\"}]}"));
+
+        // Assert
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Duplicate username: user1"));
+        verifyNoInteractions(userCommandService);
+    }
+
+    @Test
+    void provisionUsers_GivenHashingCapacityExhausted_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        when(userCommandService.handle(any(ProvisionUsersCommand.class)))
+                .thenThrow(new HashingUnavailableException("Too many passwords waiting to be hashed"));
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"users\":[{\"username\":\"user1\",\"password\":\"password\"}]}"));
+
+        // Assert
+        result.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Too many passwords waiting to be hashed"));
+    }
+}
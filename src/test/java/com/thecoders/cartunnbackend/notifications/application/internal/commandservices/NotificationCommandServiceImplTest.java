@@ -40,15 +40,13 @@ class NotificationCommandServiceImplTest {
         when(command.orderId()).thenReturn(1L);
         when(command.type()).thenReturn("type");
         when(purchasingOrderRepository.findById(1L)).thenReturn(Optional.of(mock(Order.class)));
-        when(notificationRepository.existsByType("type")).thenReturn(false);
         Notification notification = mock(Notification.class);
-        when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
-        when(notification.getId()).thenReturn(1L); // Mock getId method
+        when(notificationRepository.saveAndFlush(any(Notification.class))).thenReturn(notification);
 
-        Long result = notificationCommandService.handle(command);
+        Optional<Notification> result = notificationCommandService.handle(command);
 
-        assertNotNull(result);
-        verify(notificationRepository).save(any(Notification.class));
+        assertEquals(Optional.of(notification), result);
+        verify(notificationRepository).saveAndFlush(any(Notification.class));
     }
 
     @Test
@@ -70,16 +68,15 @@ class NotificationCommandServiceImplTest {
         when(command.id()).thenReturn(1L);
         when(command.type()).thenReturn("type");
         when(command.description()).thenReturn("description");
-        when(notificationRepository.existsByTypeAndIdIsNot("type", 1L)).thenReturn(false);
         Notification notification = mock(Notification.class);
         when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
-        when(notificationRepository.save(any(Notification.class))).thenReturn(notification); // Mock save method
+        when(notificationRepository.saveAndFlush(any(Notification.class))).thenReturn(notification); // Mock save method
 
         Optional<Notification> result = notificationCommandService.handle(command);
 
         assertTrue(result.isPresent());
         verify(notification).updateInformation("type", "description");
-        verify(notificationRepository).save(notification);
+        verify(notificationRepository).saveAndFlush(notification);
     }
 
     @Test
@@ -99,18 +96,19 @@ class NotificationCommandServiceImplTest {
     void handle_DeleteNotificationCommand_Success() {
         DeleteNotificationCommand command = mock(DeleteNotificationCommand.class);
         when(command.notificationId()).thenReturn(1L);
-        when(notificationRepository.existsById(1L)).thenReturn(true);
+        when(notificationRepository.deleteWhereId(1L)).thenReturn(1);
 
         notificationCommandService.handle(command);
 
-        verify(notificationRepository).deleteById(1L);
+        verify(notificationRepository).deleteWhereId(1L);
+        verify(notificationRepository, never()).existsById(any());
     }
 
     @Test
     void handle_DeleteNotificationCommand_NotificationDoesNotExist() {
         DeleteNotificationCommand command = mock(DeleteNotificationCommand.class);
         when(command.notificationId()).thenReturn(1L);
-        when(notificationRepository.existsById(1L)).thenReturn(false);
+        when(notificationRepository.deleteWhereId(1L)).thenReturn(0);
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             notificationCommandService.handle(command);
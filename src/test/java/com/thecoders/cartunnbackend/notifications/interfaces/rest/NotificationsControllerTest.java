@@ -6,7 +6,6 @@ import com.thecoders.cartunnbackend.notifications.domain.model.commands.DeleteNo
 import com.thecoders.cartunnbackend.notifications.domain.model.commands.UpdateNotificationCommand;
 import com.thecoders.cartunnbackend.notifications.domain.model.queries.GetAllNotificationsQuery;
 import com.thecoders.cartunnbackend.notifications.domain.model.queries.GetNotificationByIdQuery;
-import com.thecoders.cartunnbackend.notifications.domain.model.queries.GetNotificationByOrderIdQuery;
 import com.thecoders.cartunnbackend.notifications.domain.services.NotificationCommandService;
 import com.thecoders.cartunnbackend.notifications.domain.services.NotificationQueryService;
 import com.thecoders.cartunnbackend.notifications.interfaces.rest.resources.CreateNotificationResource;
@@ -48,23 +47,21 @@ class NotificationsControllerTest {
     void createNotification_Success() {
         CreateNotificationResource resource = mock(CreateNotificationResource.class);
         when(resource.orderId()).thenReturn(1L);
-        when(notificationCommandService.handle(any(CreateNotificationCommand.class))).thenReturn(1L);
-        when(notificationQueryService.handle(any(GetNotificationByOrderIdQuery.class)))
-                .thenReturn(List.of(mock(Notification.class)));
+        when(notificationCommandService.handle(any(CreateNotificationCommand.class)))
+                .thenReturn(Optional.of(mock(Notification.class)));
 
         ResponseEntity<NotificationResource> response = notificationsController.createNotification(resource);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
+        verifyNoInteractions(notificationQueryService);
     }
 
     @Test
     void createNotification_Failure() {
         CreateNotificationResource resource = mock(CreateNotificationResource.class);
         when(resource.orderId()).thenReturn(1L);
-        when(notificationCommandService.handle(any(CreateNotificationCommand.class))).thenReturn(1L);
-        when(notificationQueryService.handle(any(GetNotificationByOrderIdQuery.class)))
-                .thenReturn(List.of());
+        when(notificationCommandService.handle(any(CreateNotificationCommand.class))).thenReturn(Optional.empty());
 
         ResponseEntity<NotificationResource> response = notificationsController.createNotification(resource);
 
@@ -2,17 +2,25 @@ package com.thecoders.cartunnbackend.payment.application.internal.commandservice
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.AddCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.CreateCartCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.CreatePaymentCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.DeleteCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.RemoveCartItemCommand;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.UpdateCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.domain.model.valueobjects.CartItemId;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartItemRepository;
 import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -28,6 +36,12 @@ class CartCommandServiceImplTest {
     @Mock
     private CartRepository cartRepository;
 
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private ProductQueryService productQueryService;
+
     @InjectMocks
     private CartCommandServiceImpl cartCommandService;
 
@@ -46,9 +60,9 @@ class CartCommandServiceImplTest {
         cart.setId(1L);
         when(cartRepository.save(any(Cart.class))).thenReturn(cart);
 
-        Long cartId = cartCommandService.handle(command);
+        Optional<Cart> createdCart = cartCommandService.handle(command);
 
-        assertNotNull(cartId);
+        assertEquals(Optional.of(cart), createdCart);
         verify(cartRepository, times(1)).save(any(Cart.class));
     }
 
@@ -72,11 +86,93 @@ class CartCommandServiceImplTest {
     @Test
     void handleDeleteCartCommand() {
         DeleteCartCommand command = new DeleteCartCommand(1L);
-        when(cartRepository.existsById(command.cartId())).thenReturn(true);
+        when(cartRepository.deleteWhereId(command.cartId())).thenReturn(1);
 
         cartCommandService.handle(command);
 
-        verify(cartRepository, times(1)).existsById(command.cartId());
-        verify(cartRepository, times(1)).deleteById(command.cartId());
+        verify(cartItemRepository, times(1)).deleteByCartId(command.cartId());
+        verify(cartRepository, times(1)).deleteWhereId(command.cartId());
+        verify(cartRepository, never()).existsById(any());
+    }
+
+    @Test
+    void handleDeleteCartCommand_GivenNoDeletedRow_ShouldThrowException() {
+        DeleteCartCommand command = new DeleteCartCommand(1L);
+        when(cartRepository.deleteWhereId(command.cartId())).thenReturn(0);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> cartCommandService.handle(command));
+
+        assertEquals("Cart does not exist", exception.getMessage());
+    }
+
+    @Test
+    void handleAddCartItemCommandForExistingLine() {
+        AddCartItemCommand command = new AddCartItemCommand(1L, 2L, 3);
+        when(cartItemRepository.upsertQuantity(1L, 2L, 3)).thenReturn(2);
+        when(cartItemRepository.findById(new CartItemId(1L, 2L))).thenReturn(Optional.of(cartItem(1L, 2L, 4)));
+
+        Optional<CartItem> result = cartCommandService.handle(command);
+
+        assertTrue(result.isPresent());
+        assertEquals(4, result.get().getQuantity());
+        verifyNoInteractions(cartRepository, productQueryService);
+    }
+
+    @Test
+    void handleAddCartItemCommandForNewLine() {
+        AddCartItemCommand command = new AddCartItemCommand(1L, 2L, null);
+        when(cartItemRepository.upsertQuantity(1L, 2L, 1)).thenReturn(1);
+        when(cartItemRepository.findById(new CartItemId(1L, 2L))).thenReturn(Optional.of(cartItem(1L, 2L, 1)));
+
+        Optional<CartItem> result = cartCommandService.handle(command);
+
+        assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getCartId());
+        assertEquals(2L, result.get().getProductId());
+        assertEquals(1, result.get().getQuantity());
+        verifyNoInteractions(cartRepository, productQueryService);
+    }
+
+    @Test
+    void handleAddCartItemCommandForUnknownCart() {
+        AddCartItemCommand command = new AddCartItemCommand(1L, 2L, 1);
+        when(cartItemRepository.upsertQuantity(1L, 2L, 1)).thenThrow(new DataIntegrityViolationException("foreign key"));
+        when(cartRepository.existsById(1L)).thenReturn(false);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> cartCommandService.handle(command));
+
+        assertEquals("Cart does not exist", exception.getMessage());
+        verify(cartItemRepository, never()).findById(any());
+    }
+
+    @Test
+    void handleAddCartItemCommandForUnknownProduct() {
+        AddCartItemCommand command = new AddCartItemCommand(1L, 2L, 1);
+        when(cartItemRepository.upsertQuantity(1L, 2L, 1)).thenThrow(new DataIntegrityViolationException("foreign key"));
+        when(cartRepository.existsById(1L)).thenReturn(true);
+        when(productQueryService.handle(new GetProductByIdQuery(2L))).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> cartCommandService.handle(command));
+
+        assertEquals("Product does not exist", exception.getMessage());
+        verify(cartItemRepository, never()).findById(any());
+    }
+
+    @Test
+    void handleRemoveCartItemCommandForUnknownLine() {
+        RemoveCartItemCommand command = new RemoveCartItemCommand(1L, 2L);
+        when(cartItemRepository.deleteByCartIdAndProductId(1L, 2L)).thenReturn(0);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> cartCommandService.handle(command));
+
+        assertEquals("Cart item does not exist", exception.getMessage());
+    }
+
+    private static CartItem cartItem(Long cartId, Long productId, Integer quantity) {
+        Cart cart = new Cart();
+        cart.setId(cartId);
+        Product product = new Product();
+        product.setId(productId);
+        return new CartItem(cart, product, quantity);
     }
-}
\ No newline at end of file
+}
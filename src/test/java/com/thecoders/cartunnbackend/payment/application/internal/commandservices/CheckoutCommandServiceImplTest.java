@@ -0,0 +1,80 @@
+package com.thecoders.cartunnbackend.payment.application.internal.commandservices;
+
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CheckoutCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CreatePaymentCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.PaymentRepository;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CheckoutCommandServiceImplTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ProductQueryService productQueryService;
+
+    @InjectMocks
+    private CheckoutCommandServiceImpl checkoutCommandService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void handleCheckoutCartCommand() {
+        CheckoutCartCommand command = new CheckoutCartCommand(BigDecimal.valueOf(30.0),
+                new CreatePaymentCommand("1234567890123456", "12/23", "John Doe", "123", "credit"), Set.of(1L, 2L));
+        Product product1 = new Product("Product1", "Description1", "Image1", 10.0);
+        Product product2 = new Product("Product2", "Description2", "Image2", 20.0);
+        when(productQueryService.handle(new GetProductsByIdsQuery(Set.of(1L, 2L))))
+                .thenReturn(new ProductBatch(List.of(product1, product2), Set.of()));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Cart result = checkoutCommandService.handle(command);
+
+        assertEquals(BigDecimal.valueOf(30.0), result.getTotal());
+        assertEquals("John Doe", result.getPayment().getCardHolder());
+        assertEquals(Set.of(product1, product2), result.getItems().stream().map(CartItem::getProduct).collect(Collectors.toSet()));
+        verify(productQueryService, times(1)).handle(any(GetProductsByIdsQuery.class));
+        verify(cartRepository, never()).findById(any());
+    }
+
+    @Test
+    void handleCheckoutCartCommandWithMissingProducts() {
+        CheckoutCartCommand command = new CheckoutCartCommand(BigDecimal.valueOf(30.0),
+                new CreatePaymentCommand("1234567890123456", "12/23", "John Doe", "123", "credit"), Set.of(1L, 2L, 3L));
+        when(productQueryService.handle(any(GetProductsByIdsQuery.class)))
+                .thenReturn(new ProductBatch(List.of(new Product("Product1", "Description1", "Image1", 10.0)), Set.of(3L, 2L)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> checkoutCommandService.handle(command));
+
+        assertEquals("Products not found: [2, 3]", exception.getMessage());
+        verifyNoInteractions(paymentRepository, cartRepository);
+    }
+}
@@ -37,9 +37,9 @@ class PaymentCommandServiceImplTest {
         payment.setId(1L);
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
 
-        Long paymentId = paymentCommandService.handle(command);
+        Optional<Payment> createdPayment = paymentCommandService.handle(command);
 
-        assertNotNull(paymentId);
+        assertEquals(Optional.of(payment), createdPayment);
         verify(paymentRepository, times(1)).save(any(Payment.class));
     }
 
@@ -73,24 +73,24 @@ class PaymentCommandServiceImplTest {
     @Test
     void handleDeletePaymentCommand() {
         DeletePaymentCommand command = new DeletePaymentCommand(1L);
-        when(paymentRepository.existsById(command.PaymentId())).thenReturn(true);
+        when(paymentRepository.deleteWhereId(command.PaymentId())).thenReturn(1);
 
         paymentCommandService.handle(command);
 
-        verify(paymentRepository, times(1)).existsById(command.PaymentId());
-        verify(paymentRepository, times(1)).deleteById(command.PaymentId());
+        verify(paymentRepository, times(1)).deleteWhereId(command.PaymentId());
+        verify(paymentRepository, never()).existsById(any());
     }
 
     @Test
     void handleDeletePaymentCommand_PaymentDoesNotExist() {
         DeletePaymentCommand command = new DeletePaymentCommand(1L);
-        when(paymentRepository.existsById(command.PaymentId())).thenReturn(false);
+        when(paymentRepository.deleteWhereId(command.PaymentId())).thenReturn(0);
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             paymentCommandService.handle(command);
         });
 
         assertEquals("Cart does not exist", exception.getMessage());
-        verify(paymentRepository, times(1)).existsById(command.PaymentId());
+        verify(paymentRepository, times(1)).deleteWhereId(command.PaymentId());
     }
 }
\ No newline at end of file
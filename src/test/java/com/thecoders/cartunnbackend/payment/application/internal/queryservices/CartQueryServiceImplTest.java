@@ -1,14 +1,17 @@
 package com.thecoders.cartunnbackend.payment.application.internal.queryservices;
 
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.projections.CartPage;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.GetAllCartsQuery;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartByIdQuery;
+import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartsPageQuery;
 import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 import java.util.Collections;
 import java.util.List;
@@ -58,4 +61,32 @@ class CartQueryServiceImplTest {
         assertEquals(cart, result.get(0));
         verify(cartRepository, times(1)).findAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleGetCartsPageQuery() {
+        GetCartsPageQuery query = new GetCartsPageQuery(10L, 2);
+        Cart cart11 = new Cart();
+        Cart cart12 = new Cart();
+        when(cartRepository.findIdsAfter(10L, Limit.of(3))).thenReturn(List.of(11L, 12L, 13L));
+        when(cartRepository.findAllByIdIn(List.of(11L, 12L))).thenReturn(List.of(cart11, cart12));
+
+        CartPage result = cartQueryService.handle(query);
+
+        assertEquals(List.of(cart11, cart12), result.items());
+        assertEquals(12L, result.nextCursor());
+        verify(cartRepository, times(1)).findAllByIdIn(List.of(11L, 12L));
+    }
+
+    @Test
+    void handleGetCartsPageQueryOnLastPage() {
+        GetCartsPageQuery query = new GetCartsPageQuery(null, 2);
+        Cart cart = new Cart();
+        when(cartRepository.findIds(Limit.of(3))).thenReturn(List.of(1L));
+        when(cartRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(cart));
+
+        CartPage result = cartQueryService.handle(query);
+
+        assertEquals(List.of(cart), result.items());
+        assertTrue(result.next().isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.thecoders.cartunnbackend.payment.benchmarks;
+
+import com.thecoders.cartunnbackend.payment.application.internal.commandservices.CartCommandServiceImpl;
+import com.thecoders.cartunnbackend.payment.application.internal.commandservices.CheckoutCommandServiceImpl;
+import com.thecoders.cartunnbackend.payment.application.internal.commandservices.PaymentCommandServiceImpl;
+import com.thecoders.cartunnbackend.payment.application.internal.queryservices.CartQueryServiceImpl;
+import com.thecoders.cartunnbackend.payment.application.internal.queryservices.PaymentQueryServiceImpl;
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CheckoutCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CreateCartCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.commands.CreatePaymentCommand;
+import com.thecoders.cartunnbackend.payment.domain.model.queries.GetCartByIdQuery;
+import com.thecoders.cartunnbackend.payment.domain.model.queries.GetPaymentByIdQuery;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.CartRepository;
+import com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories.PaymentRepository;
+import com.thecoders.cartunnbackend.product.application.internal.queryservices.ProductQueryServiceImpl;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the previous multi-step cart creation flow of CartsController with CheckoutCommandServiceImpl.
+ * Repositories are replaced by stubs that wait {@code roundTripMicros} on every call to model a database round trip.
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main CheckoutLatencyBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutLatencyBenchmark {
+    @Param({"1", "5", "20"})
+    private int productCount;
+
+    @Param({"250"})
+    private long roundTripMicros;
+
+    private PaymentCommandServiceImpl paymentCommandService;
+    private PaymentQueryServiceImpl paymentQueryService;
+    private ProductRepository productRepository;
+    private ProductQueryServiceImpl productQueryService;
+    private CartCommandServiceImpl cartCommandService;
+    private CartQueryServiceImpl cartQueryService;
+    private CheckoutCommandServiceImpl checkoutCommandService;
+    private CheckoutCartCommand checkoutCartCommand;
+
+    @Setup
+    public void setUp() {
+        var sequence = new AtomicLong();
+        var stored = new HashMap<Long, Object>();
+        Answer<Object> save = invocation -> {
+            var entity = invocation.getArgument(0);
+            var id = sequence.incrementAndGet();
+            ID_FIELD.set(entity, id);
+            stored.put(id, entity);
+            return entity;
+        };
+        Answer<Object> findById = invocation -> Optional.ofNullable(stored.get((Long) invocation.getArgument(0)));
+
+        var paymentRepository = latent(PaymentRepository.class, invocation ->
+                invocation.getMethod().getName().equals("save") ? save.answer(invocation) : findById.answer(invocation));
+        var cartRepository = latent(CartRepository.class, invocation ->
+                invocation.getMethod().getName().equals("save") ? save.answer(invocation) : findById.answer(invocation));
+        productRepository = latent(ProductRepository.class, invocation -> {
+            if (invocation.getMethod().getName().equals("findAllById")) {
+                Collection<Long> ids = invocation.getArgument(0);
+                return ids.stream().map(PRODUCTS::get).toList();
+            }
+            return Optional.ofNullable(PRODUCTS.get((Long) invocation.getArgument(0)));
+        });
+
+        paymentCommandService = new PaymentCommandServiceImpl(paymentRepository);
+        paymentQueryService = new PaymentQueryServiceImpl(paymentRepository);
+        productQueryService = new ProductQueryServiceImpl(productRepository, null);
+        cartCommandService = new CartCommandServiceImpl(cartRepository, null, productQueryService);
+        cartQueryService = new CartQueryServiceImpl(cartRepository);
+        checkoutCommandService = new CheckoutCommandServiceImpl(cartRepository, paymentRepository, productQueryService);
+
+        var productIds = new HashSet<Long>();
+        LongStream.rangeClosed(1, productCount).forEach(productIds::add);
+        checkoutCartCommand = new CheckoutCartCommand(BigDecimal.TEN,
+                new CreatePaymentCommand("1234567890123456", "12/23", "John Doe", "123", "credit"), productIds);
+    }
+
+    @Benchmark
+    public Cart controllerFlow() {
+        var paymentId = paymentCommandService.handle(checkoutCartCommand.payment()).orElseThrow().getId();
+        var payment = paymentQueryService.handle(new GetPaymentByIdQuery(paymentId)).orElseThrow();
+        var products = new HashSet<Product>();
+        for (Long id : checkoutCartCommand.productIds()) {
+            products.add(productRepository.findById(id).orElseThrow());
+        }
+        var cartId = cartCommandService.handle(new CreateCartCommand(checkoutCartCommand.total(), payment, products)).orElseThrow().getId();
+        return cartQueryService.handle(new GetCartByIdQuery(cartId)).orElseThrow();
+    }
+
+    @Benchmark
+    public Cart checkoutService() {
+        return checkoutCommandService.handle(checkoutCartCommand);
+    }
+
+    private <T> T latent(Class<T> repositoryType, Answer<?> answer) {
+        var roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        return mock(repositoryType, invocation -> {
+            var deadline = System.nanoTime() + roundTripNanos;
+            while (System.nanoTime() < deadline) LockSupport.parkNanos(deadline - System.nanoTime());
+            return answer.answer(invocation);
+        });
+    }
+
+    private static final Field ID_FIELD;
+    private static final Map<Long, Product> PRODUCTS = new HashMap<>();
+
+    static {
+        try {
+            ID_FIELD = AuditableAbstractAggregateRoot.class.getDeclaredField("id");
+            ID_FIELD.setAccessible(true);
+            for (long id = 1; id <= 20; id++) {
+                var product = new Product("Product" + id, "Description" + id, "Image" + id, (double) id);
+                ID_FIELD.set(product, id);
+                PRODUCTS.put(id, product);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
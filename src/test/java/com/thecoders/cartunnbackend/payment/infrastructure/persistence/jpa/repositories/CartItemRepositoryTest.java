@@ -0,0 +1,113 @@
+package com.thecoders.cartunnbackend.payment.infrastructure.persistence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
+import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.domain.model.valueobjects.CartItemId;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cart-items;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CartItemRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    void save_GivenCartWithProducts_ShouldInsertOneLinePerProduct() {
+        // Arrange
+        var brakePads = persisted(new Product("Brake Pads", "Front", "brake.png", 50.0));
+        var airFilter = persisted(new Product("Air Filter", "Engine", "filter.png", 20.0));
+
+        // Act
+        var cartId = persisted(new Cart(BigDecimal.TEN, persisted(new Payment()), Set.of(brakePads, airFilter))).getId();
+        entityManager.clear();
+
+        // Assert
+        var cart = cartRepository.findById(cartId).orElseThrow();
+        assertEquals(2, cart.getItems().size());
+        assertTrue(cart.getItems().stream().allMatch(item -> item.getQuantity() == 1 && item.getCartId().equals(cartId)));
+    }
+
+    @Test
+    void upsertQuantity_GivenNewThenExistingLine_ShouldInsertThenIncrement() {
+        // Arrange
+        var brakePads = persisted(new Product("Brake Pads", "Front", "brake.png", 50.0));
+        var cartId = persisted(new Cart(BigDecimal.TEN, persisted(new Payment()), Set.of())).getId();
+
+        // Act
+        cartItemRepository.upsertQuantity(cartId, brakePads.getId(), 2);
+        cartItemRepository.upsertQuantity(cartId, brakePads.getId(), 3);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(5, cartItemRepository.findById(new CartItemId(cartId, brakePads.getId())).orElseThrow().getQuantity());
+        assertEquals(5, cartRepository.findById(cartId).orElseThrow().getItems().get(0).getQuantity());
+    }
+
+    @Test
+    void upsertQuantity_GivenUnknownCart_ShouldBeRejectedByForeignKey() {
+        // Arrange
+        var brakePads = persisted(new Product("Brake Pads", "Front", "brake.png", 50.0));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> cartItemRepository.upsertQuantity(-1L, brakePads.getId(), 1));
+    }
+
+    @Test
+    void updateInformation_GivenChangedProducts_ShouldKeepQuantityOfRemainingLines() {
+        // Arrange
+        var brakePads = persisted(new Product("Brake Pads", "Front", "brake.png", 50.0));
+        var airFilter = persisted(new Product("Air Filter", "Engine", "filter.png", 20.0));
+        var sparkPlug = persisted(new Product("Spark Plug", "Iridium", "plug.png", 10.0));
+        var payment = persisted(new Payment());
+        var cartId = persisted(new Cart(BigDecimal.TEN, payment, Set.of(brakePads, airFilter))).getId();
+        cartItemRepository.upsertQuantity(cartId, brakePads.getId(), 2);
+        entityManager.clear();
+
+        // Act
+        var cart = cartRepository.findById(cartId).orElseThrow();
+        cart.updateInformation(BigDecimal.ONE, cart.getPayment(), Set.of(entityManager.find(Product.class, brakePads.getId()),
+                entityManager.find(Product.class, sparkPlug.getId())));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        var items = cartRepository.findById(cartId).orElseThrow().getItems();
+        assertEquals(2, items.size());
+        assertEquals(3, quantityOf(items.stream().filter(item -> item.getProductId().equals(brakePads.getId())).findFirst().orElseThrow()));
+        assertEquals(1, quantityOf(items.stream().filter(item -> item.getProductId().equals(sparkPlug.getId())).findFirst().orElseThrow()));
+    }
+
+    private static int quantityOf(CartItem item) {
+        return item.getQuantity();
+    }
+
+    private <T extends AuditableAbstractAggregateRoot<T>> T persisted(T entity) {
+        entity.setCreatedAt(new Date());
+        entity.setUpdatedAt(new Date());
+        return entityManager.persistFlushFind(entity);
+    }
+}
@@ -3,17 +3,22 @@ package com.thecoders.cartunnbackend.payment.interfaces.rest;
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Cart;
 import com.thecoders.cartunnbackend.payment.domain.model.aggregates.Payment;
 import com.thecoders.cartunnbackend.payment.domain.model.commands.*;
+import com.thecoders.cartunnbackend.payment.domain.model.entities.CartItem;
+import com.thecoders.cartunnbackend.payment.domain.model.projections.CartPage;
 import com.thecoders.cartunnbackend.payment.domain.model.queries.*;
 import com.thecoders.cartunnbackend.payment.domain.services.CartCommandService;
 import com.thecoders.cartunnbackend.payment.domain.services.CartQueryService;
+import com.thecoders.cartunnbackend.payment.domain.services.CheckoutCommandService;
 import com.thecoders.cartunnbackend.payment.domain.services.PaymentCommandService;
 import com.thecoders.cartunnbackend.payment.domain.services.PaymentQueryService;
 import com.thecoders.cartunnbackend.payment.interfaces.rest.resources.*;
 import com.thecoders.cartunnbackend.payment.interfaces.rest.transform.*;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
-import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
 import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
 import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
+import com.thecoders.cartunnbackend.shared.interfaces.rest.resources.MessageResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -49,6 +54,9 @@ class CartsControllerTest {
     @Mock
     private PaymentQueryService paymentQueryService;
 
+    @Mock
+    private CheckoutCommandService checkoutCommandService;
+
     @InjectMocks
     private CartsController cartsController;
 
@@ -64,25 +72,38 @@ class CartsControllerTest {
                 new CreatePaymentResource("1234567890123456", "12/23", "John Doe", "123", "credit"),
                 Set.of(1L, 2L)
         );
-        CreatePaymentCommand createPaymentCommand = new CreatePaymentCommand("1234567890123456", "12/23", "John Doe", "123", "credit");
         Payment payment = new Payment("1234567890123456", "12/23", "John Doe", "123", "credit");
         Set<Product> products = new HashSet<>(List.of(
                 new Product("Product1", "Description1", "Image1", 10.0),
                 new Product("Product2", "Description2", "Image2", 20.0)
         ));
-        CreateCartResource createCartResource = new CreateCartResource(BigDecimal.valueOf(100.0), payment, products);
-        CreateCartCommand createCartCommand = new CreateCartCommand(BigDecimal.valueOf(100.0), payment, products);
+        CheckoutCartCommand checkoutCartCommand = new CheckoutCartCommand(BigDecimal.valueOf(100.0),
+                new CreatePaymentCommand("1234567890123456", "12/23", "John Doe", "123", "credit"), Set.of(1L, 2L));
 
-        when(paymentCommandService.handle(any(CreatePaymentCommand.class))).thenReturn(1L);
-        when(paymentQueryService.handle(any(GetPaymentByIdQuery.class))).thenReturn(Optional.of(payment));
-        when(productQueryService.handle(any(GetProductByIdQuery.class))).thenReturn(Optional.of(new Product("Product1", "Description1", "Image1", 10.0)));
-        when(cartCommandService.handle(any(CreateCartCommand.class))).thenReturn(1L);
-        when(cartQueryService.handle(any(GetCartByIdQuery.class))).thenReturn(Optional.of(new Cart(BigDecimal.valueOf(100.0), payment, products)));
+        when(checkoutCommandService.handle(checkoutCartCommand)).thenReturn(new Cart(BigDecimal.valueOf(100.0), payment, products));
 
-        ResponseEntity<CartResource> response = cartsController.createCart(requestCartResource);
+        ResponseEntity<?> response = cartsController.createCart(requestCartResource);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
+        verifyNoInteractions(paymentCommandService, paymentQueryService, cartCommandService, cartQueryService);
+    }
+
+    @Test
+    void createCart_GivenMissingProducts_ShouldReturnBadRequestListingThem() {
+        RequestCartResource requestCartResource = new RequestCartResource(
+                BigDecimal.valueOf(100.0),
+                new CreatePaymentResource("1234567890123456", "12/23", "John Doe", "123", "credit"),
+                Set.of(1L, 2L, 3L)
+        );
+
+        when(checkoutCommandService.handle(any(CheckoutCartCommand.class)))
+                .thenThrow(new IllegalArgumentException("Products not found: [2, 3]"));
+
+        ResponseEntity<?> response = cartsController.createCart(requestCartResource);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(new MessageResource("Products not found: [2, 3]"), response.getBody());
     }
 
     @Test
@@ -105,12 +126,23 @@ class CartsControllerTest {
         Set<Product> products = new HashSet<>(List.of(new Product("Product1", "Description1", "Image1", 10.0)));
         Cart cart = new Cart(BigDecimal.valueOf(100.0), payment, products);
 
-        when(cartQueryService.handle(any(GetAllCartsQuery.class))).thenReturn(List.of(cart));
+        when(cartQueryService.handle(any(GetCartsPageQuery.class))).thenReturn(new CartPage(List.of(cart), 1L));
 
-        ResponseEntity<List<ResponseCartResource>> response = cartsController.getAllCarts();
+        ResponseEntity<CartPageResource> response = cartsController.getAllCarts(1, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().items().size());
+        assertEquals(1L, response.getBody().nextCursor());
+        verify(cartQueryService).handle(new GetCartsPageQuery(null, 1));
+    }
+
+    @Test
+    void getAllCarts_GivenLimitOutOfRange_ShouldReturnBadRequest() {
+        ResponseEntity<CartPageResource> response = cartsController.getAllCarts(0, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(cartQueryService);
     }
 
     @Test
@@ -130,10 +162,10 @@ class CartsControllerTest {
         UpdateCartCommand updateCartCommand = new UpdateCartCommand(1L, BigDecimal.valueOf(150.0), payment, products);
 
         when(cartQueryService.handle(any(GetCartByIdQuery.class))).thenReturn(Optional.of(cart));
-        when(productQueryService.handle(any(GetProductByIdQuery.class))).thenReturn(Optional.of(new Product("Product1", "Description1", "Image1", 10.0)));
+        when(productQueryService.handle(any(GetProductsByIdsQuery.class))).thenReturn(new ProductBatch(List.copyOf(products), Set.of()));
         when(cartCommandService.handle(any(UpdateCartCommand.class))).thenReturn(Optional.of(cart));
 
-        ResponseEntity<ResponseCartResource> response = cartsController.updateCart(1L, requestUpdateCartResource);
+        ResponseEntity<?> response = cartsController.updateCart(1L, requestUpdateCartResource);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -152,4 +184,40 @@ class CartsControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Cart deleted successfully", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void addCartItem() {
+        when(cartCommandService.handle(new AddCartItemCommand(1L, 2L, 3))).thenReturn(Optional.of(cartItem(1L, 2L, 3)));
+
+        ResponseEntity<?> response = cartsController.addCartItem(1L, 2L, new AddCartItemResource(3));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new CartItemResource(1L, 2L, 3), response.getBody());
+    }
+
+    @Test
+    void removeCartItem() {
+        ResponseEntity<?> response = cartsController.removeCartItem(1L, 2L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(cartCommandService).handle(new RemoveCartItemCommand(1L, 2L));
+    }
+
+    @Test
+    void removeCartItem_GivenUnknownLine_ShouldReturnNotFound() {
+        doThrow(new IllegalArgumentException("Cart item does not exist"))
+                .when(cartCommandService).handle(any(RemoveCartItemCommand.class));
+
+        ResponseEntity<?> response = cartsController.removeCartItem(1L, 2L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private static CartItem cartItem(Long cartId, Long productId, Integer quantity) {
+        Cart cart = new Cart();
+        cart.setId(cartId);
+        Product product = new Product();
+        product.setId(productId);
+        return new CartItem(cart, product, quantity);
+    }
+}
@@ -50,13 +50,13 @@ class PaymentControllerTest {
         CreatePaymentCommand createPaymentCommand = new CreatePaymentCommand("1234567890123456", "12/23", "John Doe", "123", "credit");
         Payment payment = new Payment("1234567890123456", "12/23", "John Doe", "123", "credit");
 
-        when(paymentCommandService.handle(any(CreatePaymentCommand.class))).thenReturn(1L);
-        when(paymentQueryService.handle(any(GetPaymentByIdQuery.class))).thenReturn(Optional.of(payment));
+        when(paymentCommandService.handle(any(CreatePaymentCommand.class))).thenReturn(Optional.of(payment));
 
         ResponseEntity<PaymentResource> response = paymentController.createPayment(createPaymentResource);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
+        verifyNoInteractions(paymentQueryService);
     }
 
     @Test
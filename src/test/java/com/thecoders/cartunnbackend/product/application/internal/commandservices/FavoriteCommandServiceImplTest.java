@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,10 +58,11 @@ class FavoriteCommandServiceImplTest {
         });
 
         // Act
-        Long result = favoriteCommandService.handle(command);
+        Optional<Favorite> result = favoriteCommandService.handle(command);
 
         // Assert
-        assertEquals(favoriteId, result);
+        assertTrue(result.isPresent());
+        assertEquals(favoriteId, result.get().getId());
     }
 
     @Test
@@ -68,13 +70,13 @@ class FavoriteCommandServiceImplTest {
         // Arrange
         Long favoriteId = 100L;
         DeleteFavoriteCommand command = new DeleteFavoriteCommand(favoriteId);
-        when(favoriteRepository.existsById(favoriteId)).thenReturn(true);
+        when(favoriteRepository.deleteWhereId(favoriteId)).thenReturn(1);
 
         // Act
         favoriteCommandService.handle(command);
 
         // Assert
-        assertAll(() -> verify(favoriteRepository).existsById(favoriteId));
-        verify(favoriteRepository).deleteById(favoriteId);
+        verify(favoriteRepository).deleteWhereId(favoriteId);
+        verify(favoriteRepository, never()).existsById(any());
     }
 }
\ No newline at end of file
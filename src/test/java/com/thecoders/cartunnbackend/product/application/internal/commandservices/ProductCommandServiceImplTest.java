@@ -2,18 +2,32 @@ package com.thecoders.cartunnbackend.product.application.internal.commandservice
 
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.UpdateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.events.ProductDeletedEvent;
+import com.thecoders.cartunnbackend.product.domain.model.events.ProductSavedEvent;
+import com.thecoders.cartunnbackend.product.domain.model.projections.CreatedProducts;
 import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
 import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +38,9 @@ class ProductCommandServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductCommandServiceImpl productCommandService;
 
@@ -37,8 +54,7 @@ class ProductCommandServiceImplTest {
         // Arrange
         CreateProductCommand command = new CreateProductCommand("Product Title", "Description", "Image", 100.0);
 
-        when(productRepository.existsByTitle(command.title())).thenReturn(false);
-        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
+        when(productRepository.saveAndFlush(any(Product.class))).thenAnswer(invocation -> {
             Product savedProduct = invocation.getArgument(0);
 
             Field idField = AuditableAbstractAggregateRoot.class.getDeclaredField("id");
@@ -48,10 +64,13 @@ class ProductCommandServiceImplTest {
         });
 
         // Act
-        Long productId = productCommandService.handle(command);
+        Optional<Product> product = productCommandService.handle(command);
 
         // Assert
-        assertTrue(productId>0);
+        assertTrue(product.isPresent());
+        assertEquals(1L, product.get().getId());
+        assertEquals("Product Title", product.get().getTitle());
+        verify(eventPublisher).publishEvent(any(ProductSavedEvent.class));
     }
 
     @Test
@@ -59,13 +78,29 @@ class ProductCommandServiceImplTest {
         // Arrange
         CreateProductCommand command = new CreateProductCommand("Duplicate Title", "Description", "image-url", 100.0);
 
-        when(productRepository.existsByTitle(command.title())).thenReturn(true);
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(duplicateKey("products." + Product.TITLE_UNIQUE_CONSTRAINT));
 
         // Act
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> productCommandService.handle(command));
+        Exception exception = assertThrows(ResourceConflictException.class, () -> productCommandService.handle(command));
 
         // Assert
         assertEquals("Product with same title already exists", exception.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void handleCreateProduct_GivenOtherConstraintViolation_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        CreateProductCommand command = new CreateProductCommand("Title", "Description", "image-url", 100.0);
+
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(duplicateKey("products.ck_products_price"));
+
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> productCommandService.handle(command));
+
+        // Assert
+        assertEquals("Error while saving product", exception.getMessage());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -74,9 +109,8 @@ class ProductCommandServiceImplTest {
         Product specificProduct = new Product("Laptop", "High-end gaming laptop", "image-url", 1999.99);
         UpdateProductCommand command = new UpdateProductCommand(specificProduct.getId(), "Laptop", "Updated description", "new-image-url", 2099.99);
 
-        when(productRepository.existsByTitleAndIdIsNot(command.title(), command.id())).thenReturn(false);
         when(productRepository.findById(command.id())).thenReturn(Optional.of(specificProduct));
-        when(productRepository.save(specificProduct)).thenReturn(specificProduct);
+        when(productRepository.saveAndFlush(specificProduct)).thenReturn(specificProduct);
 
         // Act
         Optional<Product> updatedProduct = productCommandService.handle(command);
@@ -93,10 +127,11 @@ class ProductCommandServiceImplTest {
         // Arrange
         UpdateProductCommand command = new UpdateProductCommand(1L, "Laptop", "Updated description", "new-image-url", 2099.99);
 
-        when(productRepository.existsByTitleAndIdIsNot(command.title(), command.id())).thenReturn(true);
+        when(productRepository.findById(command.id())).thenReturn(Optional.of(new Product("Tablet", "Description", "image-url", 10.0)));
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(duplicateKey(Product.TITLE_UNIQUE_CONSTRAINT));
 
         // Act
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> productCommandService.handle(command));
+        Exception exception = assertThrows(ResourceConflictException.class, () -> productCommandService.handle(command));
 
         // Assert
         assertEquals("Product with same title already exists", exception.getMessage());
@@ -107,7 +142,6 @@ class ProductCommandServiceImplTest {
         // Arrange
         UpdateProductCommand command = new UpdateProductCommand(1L, "Laptop", "Updated description", "new-image-url", 2099.99);
 
-        when(productRepository.existsByTitleAndIdIsNot(command.title(), command.id())).thenReturn(false);
         when(productRepository.findById(command.id())).thenReturn(Optional.empty());
 
         // Act
@@ -122,10 +156,12 @@ class ProductCommandServiceImplTest {
         // Arrange
         DeleteProductCommand command = new DeleteProductCommand(1L);
 
-        when(productRepository.existsById(command.productId())).thenReturn(true);
+        when(productRepository.deleteWhereId(command.productId())).thenReturn(1);
 
         // Act & assert
         assertAll(() -> productCommandService.handle(command));
+        verify(eventPublisher).publishEvent(new ProductDeletedEvent(command.productId()));
+        verify(productRepository, never()).existsById(any());
     }
 
     @Test
@@ -133,12 +169,95 @@ class ProductCommandServiceImplTest {
         // Arrange
         DeleteProductCommand command = new DeleteProductCommand(1L);
 
-        when(productRepository.existsById(command.productId())).thenReturn(false);
+        when(productRepository.deleteWhereId(command.productId())).thenReturn(0);
 
         // Act
         Exception exception = assertThrows(IllegalArgumentException.class, () -> productCommandService.handle(command));
 
         // Assert
         assertEquals("Product does not exist", exception.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void handleDeleteProducts_GivenSomeMissingIds_ShouldDeleteInOneStatementAndAnnounceOnlyDeletedIds() {
+        // Arrange
+        DeleteProductsCommand command = new DeleteProductsCommand(Set.of(1L, 2L, 3L));
+
+        when(productRepository.findIdsForUpdateByIdIn(Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+        when(productRepository.deleteWhereIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        // Act
+        int deleted = productCommandService.handle(command);
+
+        // Assert
+        assertEquals(2, deleted);
+        verify(eventPublisher).publishEvent(new ProductDeletedEvent(1L));
+        verify(eventPublisher).publishEvent(new ProductDeletedEvent(2L));
+        verify(eventPublisher, never()).publishEvent(new ProductDeletedEvent(3L));
+        verify(productRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void handleDeleteProducts_GivenOnlyMissingIds_ShouldNotDeleteOrAnnounce() {
+        // Arrange
+        DeleteProductsCommand command = new DeleteProductsCommand(Set.of(4L));
+
+        when(productRepository.findIdsForUpdateByIdIn(Set.of(4L))).thenReturn(List.of());
+
+        // Act
+        int deleted = productCommandService.handle(command);
+
+        // Assert
+        assertEquals(0, deleted);
+        verify(productRepository, never()).deleteWhereIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteProductsCommand_GivenTooManyIds_ShouldThrowException() {
+        // Arrange
+        var productIds = LongStream.rangeClosed(1, DeleteProductsCommand.MAX_IDS + 1).boxed().collect(Collectors.toSet());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new DeleteProductsCommand(productIds));
+    }
+
+    @Test
+    void handleCreateProducts_GivenSomeTakenTitles_ShouldInsertTheRestAndReportSkippedTitles() {
+        // Arrange
+        CreateProductsCommand command = new CreateProductsCommand(List.of(
+                new CreateProductCommand("Brake Pads", "Description", "image-url", 50.0),
+                new CreateProductCommand("Air Filter", "Description", "image-url", 20.0),
+                new CreateProductCommand("Spark Plug", "Description", "image-url", 10.0)));
+
+        when(productRepository.findExistingTitles(List.of("Brake Pads", "Air Filter", "Spark Plug"))).thenReturn(List.of("AIR FILTER"));
+
+        // Act
+        CreatedProducts result = productCommandService.handle(command);
+
+        // Assert
+        assertEquals(new CreatedProducts(2, List.of("Air Filter")), result);
+        verify(productRepository).insertAll(argThat((List<Product> products) ->
+                products.stream().map(Product::getTitle).toList().equals(List.of("Brake Pads", "Spark Plug"))));
+        verify(eventPublisher, times(2)).publishEvent(any(ProductSavedEvent.class));
+    }
+
+    @Test
+    void handleCreateProducts_GivenConcurrentlyTakenTitle_ShouldThrowConflict() {
+        // Arrange
+        CreateProductsCommand command = new CreateProductsCommand(List.of(new CreateProductCommand("Brake Pads", "Description", "image-url", 50.0)));
+
+        when(productRepository.findExistingTitles(any())).thenReturn(List.of());
+        doThrow(duplicateKey(Product.TITLE_UNIQUE_CONSTRAINT)).when(productRepository).insertAll(any());
+
+        // Act & Assert
+        assertThrows(ResourceConflictException.class, () -> productCommandService.handle(command));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static DataIntegrityViolationException duplicateKey(String constraintName) {
+        var cause = new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry", "23000", 1062), constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
     }
-}
\ No newline at end of file
+}
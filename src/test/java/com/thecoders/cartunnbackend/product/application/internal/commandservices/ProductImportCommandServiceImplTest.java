@@ -0,0 +1,100 @@
+package com.thecoders.cartunnbackend.product.application.internal.commandservices;
+
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.ImportProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.projections.CreatedProducts;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ImportedProducts;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportChunk;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportError;
+import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProductImportCommandServiceImplTest {
+
+    @Mock
+    private ProductCommandService productCommandService;
+
+    @InjectMocks
+    private ProductImportCommandServiceImpl productImportCommandService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void handle_GivenChunksWithTakenTitlesAndInvalidRows_ShouldCountAndReportThem() {
+        // Arrange
+        var brakePads = new CreateProductCommand("Brake Pads", "Front", "brake.png", 50.0);
+        var airFilter = new CreateProductCommand("Air Filter", "Engine", "filter.png", 20.0);
+        var chunk = new ProductImportChunk(
+                List.of(new ProductImportChunk.Row(1, brakePads), new ProductImportChunk.Row(2, airFilter)),
+                List.of(new ProductImportError(3, null, "Malformed JSON")));
+
+        when(productCommandService.handle(any(CreateProductsCommand.class))).thenReturn(new CreatedProducts(1, List.of("Air Filter")));
+
+        // Act
+        ImportedProducts result = productImportCommandService.handle(new ImportProductsCommand(List.of(chunk).iterator()));
+
+        // Assert
+        assertEquals(1, result.imported());
+        assertEquals(1, result.skipped());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(new ProductImportError(3, null, "Malformed JSON"),
+                new ProductImportError(2, "Air Filter", "Product with same title already exists")), result.errors());
+        verify(productCommandService).handle(new CreateProductsCommand(List.of(brakePads, airFilter)));
+    }
+
+    @Test
+    void handle_GivenChunkFailingToInsert_ShouldReportItsRowsAsFailedAndImportTheNextChunk() {
+        // Arrange
+        var failing = new ProductImportChunk(List.of(
+                new ProductImportChunk.Row(1, new CreateProductCommand("Brake Pads", null, null, 50.0)),
+                new ProductImportChunk.Row(2, new CreateProductCommand("Air Filter", null, null, 20.0))), List.of());
+        var passing = new ProductImportChunk(List.of(
+                new ProductImportChunk.Row(3, new CreateProductCommand("Spark Plug", null, null, 10.0))), List.of());
+
+        when(productCommandService.handle(any(CreateProductsCommand.class)))
+                .thenThrow(new ResourceConflictException("Product with same title already exists", null))
+                .thenReturn(new CreatedProducts(1, List.of()));
+
+        // Act
+        ImportedProducts result = productImportCommandService.handle(new ImportProductsCommand(List.of(failing, passing).iterator()));
+
+        // Assert
+        assertEquals(1, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(1L, 2L), result.errors().stream().map(ProductImportError::line).toList());
+        assertEquals("Product with same title already exists", result.errors().get(1).message());
+    }
+
+    @Test
+    void handle_GivenMoreErrorsThanReported_ShouldCountAllAndReportTheFirstOnes() {
+        // Arrange
+        var errors = IntStream.rangeClosed(1, ProductImportCommandServiceImpl.MAX_REPORTED_ERRORS + 5)
+                .mapToObj(line -> new ProductImportError(line, null, "Title is required"))
+                .toList();
+
+        // Act
+        ImportedProducts result = productImportCommandService.handle(
+                new ImportProductsCommand(List.of(new ProductImportChunk(List.of(), errors)).iterator()));
+
+        // Assert
+        assertEquals(ProductImportCommandServiceImpl.MAX_REPORTED_ERRORS + 5, result.failed());
+        assertEquals(ProductImportCommandServiceImpl.MAX_REPORTED_ERRORS, result.errors().size());
+        verifyNoInteractions(productCommandService);
+    }
+}
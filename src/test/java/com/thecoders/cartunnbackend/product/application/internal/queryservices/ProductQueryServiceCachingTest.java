@@ -0,0 +1,141 @@
+package com.thecoders.cartunnbackend.product.application.internal.queryservices;
+
+import com.thecoders.cartunnbackend.product.application.internal.commandservices.ProductCommandServiceImpl;
+import com.thecoders.cartunnbackend.product.application.internal.outboundservices.search.ProductSearchService;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.UpdateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
+import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
+import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import com.thecoders.cartunnbackend.shared.infrastructure.caching.configuration.CachingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CachingConfiguration.class, ProductQueryServiceImpl.class, ProductCommandServiceImpl.class})
+@TestPropertySource(properties = {
+        "spring.cache.cache-names=products",
+        "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=10m,recordStats"
+})
+class ProductQueryServiceCachingTest {
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @MockBean
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @Autowired
+    private ProductCommandService productCommandService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CachingConfiguration.PRODUCTS_CACHE).clear();
+    }
+
+    @Test
+    void handleGetProductById_GivenRepeatedLookups_ShouldQueryRepositoryOnceAndShareTheSummary() {
+        // Arrange
+        when(productRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1L, "Brake Pads")));
+
+        // Act
+        var first = productQueryService.handle(new GetProductByIdQuery(1L));
+        var second = productQueryService.handle(new GetProductByIdQuery(1L));
+
+        // Assert
+        assertEquals("Brake Pads", first.orElseThrow().title());
+        assertSame(first.orElseThrow(), second.orElseThrow());
+        assertInstanceOf(ProductSummary.class, cacheManager.getCache(CachingConfiguration.PRODUCTS_CACHE).get(1L).get());
+        verify(productRepository, times(1)).findSummaryById(1L);
+    }
+
+    @Test
+    void handleGetProductById_GivenUnknownProduct_ShouldNotCacheMiss() {
+        // Arrange
+        when(productRepository.findSummaryById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        productQueryService.handle(new GetProductByIdQuery(1L));
+        productQueryService.handle(new GetProductByIdQuery(1L));
+
+        // Assert
+        verify(productRepository, times(2)).findSummaryById(1L);
+    }
+
+    @Test
+    void handleUpdateProduct_GivenCachedProduct_ShouldEvictSoTheNextReadSeesTheUpdate() {
+        // Arrange
+        when(productRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1L, "Brake Pads")));
+        productQueryService.handle(new GetProductByIdQuery(1L));
+        var product = new Product("Brake Pads", "Description", "image-url", 50.0);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product)).thenReturn(product);
+        when(productRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1L, "Ceramic Brake Pads")));
+
+        // Act
+        productCommandService.handle(new UpdateProductCommand(1L, "Ceramic Brake Pads", "Description", "image-url", 50.0));
+        var result = productQueryService.handle(new GetProductByIdQuery(1L));
+
+        // Assert
+        assertEquals("Ceramic Brake Pads", result.orElseThrow().title());
+        verify(productRepository, times(2)).findSummaryById(1L);
+    }
+
+    @Test
+    void handleDeleteProduct_GivenCachedProduct_ShouldEvictIt() {
+        // Arrange
+        when(productRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1L, "Brake Pads")));
+        productQueryService.handle(new GetProductByIdQuery(1L));
+        when(productRepository.deleteWhereId(1L)).thenReturn(1);
+
+        // Act
+        productCommandService.handle(new DeleteProductCommand(1L));
+
+        // Assert
+        assertNull(cacheManager.getCache(CachingConfiguration.PRODUCTS_CACHE).get(1L));
+    }
+
+    @Test
+    void handleDeleteProducts_GivenCachedProducts_ShouldEvictAllEntries() {
+        // Arrange
+        when(productRepository.findSummaryById(any())).thenAnswer(invocation -> Optional.of(summary(invocation.getArgument(0), "Product")));
+        productQueryService.handle(new GetProductByIdQuery(1L));
+        productQueryService.handle(new GetProductByIdQuery(2L));
+        when(productRepository.findIdsForUpdateByIdIn(Set.of(1L))).thenReturn(List.of(1L));
+        when(productRepository.deleteWhereIdIn(List.of(1L))).thenReturn(1);
+
+        // Act
+        productCommandService.handle(new DeleteProductsCommand(Set.of(1L)));
+
+        // Assert
+        assertNull(cacheManager.getCache(CachingConfiguration.PRODUCTS_CACHE).get(1L));
+        assertNull(cacheManager.getCache(CachingConfiguration.PRODUCTS_CACHE).get(2L));
+    }
+
+    private static ProductSummary summary(Long id, String title) {
+        return new ProductSummary(id, title, "Description", "image-url", 50.0, new Date());
+    }
+}
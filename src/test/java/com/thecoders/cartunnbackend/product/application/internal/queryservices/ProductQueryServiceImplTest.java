@@ -1,20 +1,36 @@
 package com.thecoders.cartunnbackend.product.application.internal.queryservices;
 
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllProductsQuery;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsPageQuery;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductSortKey;
 import com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories.ProductRepository;
+import com.thecoders.cartunnbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class ProductQueryServiceImplTest {
 
@@ -52,15 +68,98 @@ class ProductQueryServiceImplTest {
         // Arrange
         long productId = 1;
         GetProductByIdQuery query = new GetProductByIdQuery(productId);
-        Product product = new Product();
+        ProductSummary product = new ProductSummary(productId, "Brake pads", "Ceramic", "image-1", 10.0, new Date());
 
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findSummaryById(productId)).thenReturn(Optional.of(product));
 
         // Act
-        Optional<Product> result = productQueryService.handle(query);
+        Optional<ProductSummary> result = productQueryService.handle(query);
 
         // Assert
         assertTrue(result.isPresent());
         assertEquals(product, result.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleGetProductsPage_GivenMoreRowsThanLimit_ShouldReturnPageWithNextCursor() {
+        // Arrange
+        GetProductsPageQuery query = new GetProductsPageQuery(ProductSortKey.PRICE, null, 2);
+        ProductSummary product1 = new ProductSummary(1L, "Brake pads", "Ceramic", "image-1", 10.0, new Date());
+        ProductSummary product2 = new ProductSummary(2L, "Air filter", "Cotton", "image-2", 20.0, new Date());
+        ProductSummary product3 = new ProductSummary(3L, "Spark plug", "Iridium", "image-3", 30.0, new Date());
+
+        when(productRepository.findSummariesOrderByPrice(Limit.of(3))).thenReturn(List.of(product1, product2, product3));
+
+        // Act
+        ProductPage result = productQueryService.handle(query);
+
+        // Assert
+        assertEquals(List.of(product1, product2), result.items());
+        assertTrue(result.next().isPresent());
+        assertEquals(new ProductCursor(ProductSortKey.PRICE, "20.0", 2L), result.nextCursor());
+    }
+
+    @Test
+    void handleGetProductsPage_GivenCursor_ShouldSeekPastCursorAndReturnLastPage() {
+        // Arrange
+        ProductCursor cursor = new ProductCursor(ProductSortKey.TITLE, "Air filter", 2L);
+        GetProductsPageQuery query = new GetProductsPageQuery(ProductSortKey.TITLE, ProductCursor.fromToken(cursor.toToken()), 2);
+        ProductSummary product3 = new ProductSummary(3L, "Spark plug", "Iridium", "image-3", 30.0, new Date());
+
+        when(productRepository.findSummariesOrderByTitleAfter("Air filter", 2L, Limit.of(3))).thenReturn(List.of(product3));
+
+        // Act
+        ProductPage result = productQueryService.handle(query);
+
+        // Assert
+        assertEquals(List.of(product3), result.items());
+        assertTrue(result.next().isEmpty());
+    }
+
+    @Test
+    void getProductsPageQuery_GivenCursorForAnotherSortKey_ShouldThrowException() {
+        // Arrange
+        ProductCursor cursor = new ProductCursor(ProductSortKey.TITLE, "Air filter", 2L);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new GetProductsPageQuery(ProductSortKey.PRICE, cursor, 2));
+    }
+
+    @Test
+    void handleGetProductsByIds_GivenSomeUnknownIds_ShouldReturnFoundProductsAndMissingIds() throws Exception {
+        // Arrange
+        GetProductsByIdsQuery query = new GetProductsByIdsQuery(Set.of(1L, 2L, 3L));
+        Product product1 = new Product("Brake pads", "Ceramic", "image-1", 10.0);
+        Product product3 = new Product("Spark plug", "Iridium", "image-3", 30.0);
+        Field idField = AuditableAbstractAggregateRoot.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(product1, 1L);
+        idField.set(product3, 3L);
+
+        when(productRepository.findAllById(argThat((Iterable<Long> ids) -> Set.copyOf((Collection<Long>) ids).equals(query.productIds()))))
+                .thenReturn(List.of(product1, product3));
+
+        // Act
+        ProductBatch result = productQueryService.handle(query);
+
+        // Assert
+        assertEquals(List.of(product1, product3), result.products());
+        assertEquals(Set.of(2L), result.missingIds());
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    void handleGetProductsByIds_GivenMoreIdsThanOneLookup_ShouldLoadThemInChunks() {
+        // Arrange
+        Set<Long> productIds = LongStream.rangeClosed(1, 250).boxed().collect(Collectors.toSet());
+
+        when(productRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        ProductBatch result = productQueryService.handle(new GetProductsByIdsQuery(productIds));
+
+        // Assert
+        assertEquals(productIds, result.missingIds());
+        verify(productRepository, times(3)).findAllById(argThat((Iterable<Long> ids) -> ((Collection<Long>) ids).size() <= 100));
+    }
+}
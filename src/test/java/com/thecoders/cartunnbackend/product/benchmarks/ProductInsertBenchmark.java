@@ -0,0 +1,172 @@
+package com.thecoders.cartunnbackend.product.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.strategy.SnakeCasePhysicalNamingStrategy;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares inserting products whose ids come from an IDENTITY column with the pooled id generator
+ * used by the aggregates, both with hibernate.jdbc.batch_size=50 against an in-memory H2 database.
+ * Every statement execution waits {@code roundTripMicros} to model a database round trip.
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main ProductInsertBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductInsertBenchmark {
+    @Param({"100", "1000"})
+    private int productCount;
+
+    @Param({"0", "250"})
+    private long roundTripMicros;
+
+    private HikariDataSource connectionPool;
+    private SessionFactory sessionFactory;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        // without a logback configuration the root level is DEBUG, and Hibernate's debug logging would dominate
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        connectionPool = new HikariDataSource();
+        connectionPool.setJdbcUrl("jdbc:h2:mem:product-inserts;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        var dataSource = latent(connectionPool);
+        var registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, SnakeCasePhysicalNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(IdentityProduct.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from Product").executeUpdate();
+            session.createMutationQuery("delete from IdentityProduct").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        connectionPool.close();
+    }
+
+    @Benchmark
+    public long identityIds() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < productCount; i++) {
+                var title = "Product " + sequence.incrementAndGet();
+                session.persist(new IdentityProduct(title, "Description", "Image", 10.0));
+            }
+        });
+        return sequence.get();
+    }
+
+    @Benchmark
+    public long pooledIds() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < productCount; i++) {
+                var product = new Product("Product " + sequence.incrementAndGet(), "Description", "Image", 10.0);
+                product.setCreatedAt(new Date());
+                product.setUpdatedAt(new Date());
+                session.persist(product);
+            }
+        });
+        return sequence.get();
+    }
+
+    private DelegatingDataSource latent(DataSource dataSource) {
+        var roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                var connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            var result = invoke(connection, method, args);
+                            if (!(result instanceof Statement statement)) return result;
+                            return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{method.getReturnType()},
+                                    (statementProxy, statementMethod, statementArgs) -> {
+                                        if (statementMethod.getName().startsWith("execute")) {
+                                            var deadline = System.nanoTime() + roundTripNanos;
+                                            while (System.nanoTime() < deadline) LockSupport.parkNanos(deadline - System.nanoTime());
+                                        }
+                                        return invoke(statement, statementMethod, statementArgs);
+                                    });
+                        });
+            }
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The same columns as Product, with the IDENTITY ids every aggregate used before the pooled generator.
+     */
+    @Entity(name = "IdentityProduct")
+    @Table(name = "identity_products")
+    static class IdentityProduct {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private String title;
+        private String description;
+        private String image;
+        private Double price;
+        private Date createdAt;
+        private Date updatedAt;
+
+        protected IdentityProduct() {
+        }
+
+        IdentityProduct(String title, String description, String image, Double price) {
+            this.title = title;
+            this.description = description;
+            this.image = image;
+            this.price = price;
+            this.createdAt = new Date();
+            this.updatedAt = this.createdAt;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.thecoders.cartunnbackend.product.infrastructure.persitence.jpa.repositories;
+
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators.PooledIdGenerator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product-batches;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductBatchRepositoryImplTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertAll_GivenMoreProductsThanOneBatch_ShouldInsertThemAndLeaveThemDetached() {
+        // Arrange
+        var products = new ArrayList<Product>();
+        for (int i = 0; i < PooledIdGenerator.ALLOCATION_SIZE + 10; i++) {
+            var product = new Product("Product " + i, "Description", "image-url", 10.0 + i);
+            product.setCreatedAt(new Date());
+            product.setUpdatedAt(new Date());
+            products.add(product);
+        }
+
+        // Act
+        productRepository.insertAll(products);
+
+        // Assert
+        assertEquals(products.size(), productRepository.count());
+        assertTrue(products.stream().allMatch(product -> product.getId() != null && !entityManager.contains(product)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.thecoders.cartunnbackend.product.infrastructure.search.inmemory.services;
+
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchServiceImplTest {
+
+    private ProductSearchServiceImpl productSearchService;
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchServiceImpl();
+        productSearchService.index(new ProductSummary(1L, "Brake pads", "Ceramic pads for front brakes", "image-1", 50.0, new Date()));
+        productSearchService.index(new ProductSummary(2L, "Brake disc", "Ventilated disc", "image-2", 120.0, new Date()));
+        productSearchService.index(new ProductSummary(3L, "Air filter", "Fits most brake-assisted models", "image-3", 20.0, new Date()));
+        productSearchService.index(new ProductSummary(4L, "Alerón deportivo", "Fibra de carbono", "image-4", 300.0, new Date()));
+    }
+
+    @Test
+    void search_GivenTermInTitleAndDescription_ShouldRankTitleMatchesFirst() {
+        // Act
+        ProductSearchPage result = productSearchService.search("BRAKE", 0, 10);
+
+        // Assert
+        assertEquals(3, result.total());
+        assertEquals(List.of(1L, 2L, 3L), ids(result));
+    }
+
+    @Test
+    void search_GivenPrefixOfSeveralTerms_ShouldMatchOnlyProductsContainingAllTerms() {
+        // Act
+        ProductSearchPage result = productSearchService.search("bra pad", 0, 10);
+
+        // Assert
+        assertEquals(List.of(1L), ids(result));
+    }
+
+    @Test
+    void search_GivenUnaccentedTerm_ShouldMatchAccentedTitle() {
+        // Act
+        ProductSearchPage result = productSearchService.search("aleron", 0, 10);
+
+        // Assert
+        assertEquals(List.of(4L), ids(result));
+    }
+
+    @Test
+    void search_GivenOffsetAndLimit_ShouldReturnRequestedSliceAndTotal() {
+        // Act
+        ProductSearchPage result = productSearchService.search("brake", 1, 1);
+
+        // Assert
+        assertEquals(3, result.total());
+        assertEquals(List.of(2L), ids(result));
+    }
+
+    @Test
+    void index_GivenUpdatedProduct_ShouldReplacePreviousTerms() {
+        // Arrange
+        productSearchService.index(new ProductSummary(2L, "Clutch kit", "Complete kit", "image-2", 180.0, new Date()));
+
+        // Act
+        ProductSearchPage brakeResult = productSearchService.search("disc", 0, 10);
+        ProductSearchPage clutchResult = productSearchService.search("clutch", 0, 10);
+
+        // Assert
+        assertEquals(0, brakeResult.total());
+        assertEquals(List.of(2L), ids(clutchResult));
+    }
+
+    @Test
+    void remove_GivenIndexedProduct_ShouldNoLongerMatch() {
+        // Arrange
+        productSearchService.remove(1L);
+
+        // Act
+        ProductSearchPage result = productSearchService.search("pads", 0, 10);
+
+        // Assert
+        assertTrue(result.items().isEmpty());
+    }
+
+    private static List<Long> ids(ProductSearchPage page) {
+        return page.items().stream().map(ProductSummary::id).toList();
+    }
+}
@@ -5,7 +5,6 @@ import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteFavoriteCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.RequestFavoriteCommand;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllFavoritesQuery;
-import com.thecoders.cartunnbackend.product.domain.model.queries.GetFavoriteByProductIdQuery;
 import com.thecoders.cartunnbackend.product.domain.services.FavoriteCommandService;
 import com.thecoders.cartunnbackend.product.domain.services.FavoriteQueryService;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.FavoriteResource;
@@ -26,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.List;
+import java.util.Optional;
 
 
 import static org.mockito.ArgumentMatchers.any;
@@ -98,7 +98,6 @@ class FavoritesControllerTest {
         // Arrange
         var requestFavoriteResource = new RequestFavoriteResource(productId);
         var requestFavoriteCommand = new RequestFavoriteCommand(productId);
-        var getFavoriteByProductIdQuery = new GetFavoriteByProductIdQuery(productId);
         var favoriteResource = new FavoriteResource(favoriteId1, productId);
 
         try (MockedStatic<RequestFavoriteCommandFromResourceAssembler> mockedCommandAssembler = mockStatic(RequestFavoriteCommandFromResourceAssembler.class);
@@ -106,8 +105,7 @@ class FavoritesControllerTest {
             mockedCommandAssembler.when(() -> RequestFavoriteCommandFromResourceAssembler.toCommandFromResource(requestFavoriteResource))
                     .thenReturn(requestFavoriteCommand);
 
-            when(favoriteCommandService.handle(requestFavoriteCommand)).thenReturn(favoriteId1);
-            when(favoriteQueryService.handle(getFavoriteByProductIdQuery)).thenReturn(List.of(favorite1));
+            when(favoriteCommandService.handle(requestFavoriteCommand)).thenReturn(Optional.of(favorite1));
 
             mockedResourceAssembler.when(() -> FavoriteResourceFromEntityAssembler.toResourceFromEntity(favorite1)).thenReturn(favoriteResource);
 
@@ -120,6 +118,7 @@ class FavoritesControllerTest {
             result.andExpect(status().isCreated())
                     .andExpect(jsonPath("$.favoriteId").value(favoriteId1))
                     .andExpect(jsonPath("$.productId").value(productId));
+            verifyNoInteractions(favoriteQueryService);
         }
     }
 
@@ -3,15 +3,30 @@ package com.thecoders.cartunnbackend.product.interfaces.rest;
 import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
 import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.DeleteProductsCommand;
+import com.thecoders.cartunnbackend.product.domain.model.commands.ImportProductsCommand;
 import com.thecoders.cartunnbackend.product.domain.model.commands.UpdateProductCommand;
-import com.thecoders.cartunnbackend.product.domain.model.queries.GetAllProductsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ImportedProducts;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductBatch;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSearchPage;
+import com.thecoders.cartunnbackend.product.domain.model.projections.ProductSummary;
 import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductByIdQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsByIdsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.GetProductsPageQuery;
+import com.thecoders.cartunnbackend.product.domain.model.queries.SearchProductsQuery;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductCursor;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportChunk;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportError;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductSortKey;
 import com.thecoders.cartunnbackend.product.domain.services.ProductCommandService;
+import com.thecoders.cartunnbackend.product.domain.services.ProductImportCommandService;
 import com.thecoders.cartunnbackend.product.domain.services.ProductQueryService;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.CreateProductResource;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.ProductResource;
 import com.thecoders.cartunnbackend.product.interfaces.rest.resources.UpdateProductResource;
 import com.thecoders.cartunnbackend.product.interfaces.rest.transform.CreateProductCommandFromResourceAssembler;
+import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductImportReader;
 import com.thecoders.cartunnbackend.product.interfaces.rest.transform.ProductResourceFromEntityAssembler;
 import com.thecoders.cartunnbackend.product.interfaces.rest.transform.UpdateProductCommandFromResourceAssembler;
 import org.junit.jupiter.api.Test;
@@ -26,10 +41,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -49,6 +70,9 @@ class ProductsControllerTest {
     @MockBean
     private ProductQueryService productQueryService;
 
+    @MockBean
+    private ProductImportCommandService productImportCommandService;
+
     @Test
     void createProduct_GivenValidProduct_ShouldReturnCreatedStatusAndProduct() throws Exception {
         // Arrange
@@ -61,8 +85,7 @@ class ProductsControllerTest {
              MockedStatic<ProductResourceFromEntityAssembler> mockedAssembler2 = mockStatic(ProductResourceFromEntityAssembler.class)) {
             mockedAssembler.when(() -> CreateProductCommandFromResourceAssembler.toCommandFromResource(createProductResource)).thenReturn(createProductCommand);
             mockedAssembler2.when(() -> ProductResourceFromEntityAssembler.toResourceFromEntity(product)).thenReturn(productResource);
-            when(productCommandService.handle(createProductCommand)).thenReturn(1L);
-            when(productQueryService.handle(any(GetProductByIdQuery.class))).thenReturn(Optional.of(product));
+            when(productCommandService.handle(createProductCommand)).thenReturn(Optional.of(product));
 
             // Act
             ResultActions result = mockMvc.perform(post("/api/v1/products")
@@ -76,20 +99,32 @@ class ProductsControllerTest {
                     .andExpect(jsonPath("$.description").value("Description 1"))
                     .andExpect(jsonPath("$.image").value("Image 1"))
                     .andExpect(jsonPath("$.price").value(99.99));
+            verifyNoInteractions(productQueryService);
         }
     }
 
     @Test
-    void getProduct_GivenValidProductId_ShouldReturnOkAndProduct() throws Exception {
+    void createProduct_GivenRejectedByCommandService_ShouldReturnBadRequestWithMessage() throws Exception {
         // Arrange
-        Product product = new Product(
-                "Producto 1",
-                "Descripcion del producto 1",
-                "imagen1.jpg",
-                100.0
-        );
+        when(productCommandService.handle(any(CreateProductCommand.class)))
+                .thenThrow(new IllegalArgumentException("Error while saving product"));
 
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Brake Pads\",\"description\":\"Front\",\"image\":\"brake.png\",\"price\":50.0}"));
+
+        // Assert
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Error while saving product"));
+    }
+
+    @Test
+    void getProduct_GivenValidProductId_ShouldReturnOkAndProduct() throws Exception {
+        // Arrange
         var id = 1L;
+        ProductSummary product = new ProductSummary(id, "Producto 1", "Descripcion del producto 1", "imagen1.jpg", 100.0, new Date());
+
         var query = new GetProductByIdQuery(id);
 
         when(productQueryService.handle(query)).thenReturn(Optional.of(product));
@@ -107,35 +142,108 @@ class ProductsControllerTest {
     }
 
     @Test
-    void getAllProducts_GivenValidQuery_ShouldReturnOkAndListOfProducts() throws Exception {
+    void getAllProducts_GivenValidQuery_ShouldReturnOkAndPageOfProducts() throws Exception {
         // Arrange
-        Product product1 = new Product(
-                "Producto 1",
-                "Descripcion del producto 1",
-                "imagen1.jpg",
-                100.0
-        );
-
-        Product product2 = new Product(
-                "Producto 2",
-                "Descripcion del producto 2",
-                "imagen2.jpg",
-                200.0
-        );
-        List<Product> products = List.of(product1, product2);
-
-        when(productQueryService.handle(any(GetAllProductsQuery.class))).thenReturn(products);
+        ProductSummary product1 = new ProductSummary(1L, "Producto 1", "Descripcion del producto 1", "imagen1.jpg", 100.0, new Date());
+        ProductSummary product2 = new ProductSummary(2L, "Producto 2", "Descripcion del producto 2", "imagen2.jpg", 200.0, new Date());
+        ProductCursor nextCursor = ProductCursor.of(ProductSortKey.PRICE, product2);
+        ProductPage page = new ProductPage(List.of(product1, product2), nextCursor);
+
+        when(productQueryService.handle(any(GetProductsPageQuery.class))).thenReturn(page);
 
         // Act
         ResultActions resultActions = mockMvc.perform(get("/api/v1/products")
+                .param("limit", "2")
+                .param("sort", "price")
                 .contentType(MediaType.APPLICATION_JSON));
 
         // Assert
         resultActions.andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].title").value("Producto 1"))
-                .andExpect(jsonPath("$[1].title").value("Producto 2"));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title").value("Producto 1"))
+                .andExpect(jsonPath("$.items[1].title").value("Producto 2"))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor.toToken()));
+        verify(productQueryService).handle(new GetProductsPageQuery(ProductSortKey.PRICE, null, 2));
+    }
+
+    @Test
+    void getAllProducts_GivenMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Act
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products")
+                .param("after", "not-a-cursor")
+                .contentType(MediaType.APPLICATION_JSON));
 
+        // Assert
+        resultActions.andExpect(status().isBadRequest());
+        verify(productQueryService, never()).handle(any(GetProductsPageQuery.class));
+    }
+
+    @Test
+    void getProductsByIds_GivenKnownAndUnknownIds_ShouldReturnProductsAndMissingIds() throws Exception {
+        // Arrange
+        Product product = new Product("Producto 1", "Descripcion del producto 1", "imagen1.jpg", 100.0);
+        when(productQueryService.handle(new GetProductsByIdsQuery(Set.of(1L, 2L, 3L))))
+                .thenReturn(new ProductBatch(List.of(product), Set.of(3L, 2L)));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products")
+                .param("ids", "1,2,3")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // Assert
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Producto 1"))
+                .andExpect(jsonPath("$.missingIds", hasSize(2)))
+                .andExpect(jsonPath("$.missingIds[0]").value(2))
+                .andExpect(jsonPath("$.missingIds[1]").value(3));
+        verify(productQueryService, never()).handle(any(GetProductsPageQuery.class));
+    }
+
+    @Test
+    void getProductsByIds_GivenTooManyIds_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        String ids = LongStream.rangeClosed(1, ProductsController.MAX_REQUESTED_IDS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/api/v1/products").param("ids", ids));
+
+        // Assert
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At most " + ProductsController.MAX_REQUESTED_IDS + " product ids can be requested at once"));
+        verify(productQueryService, never()).handle(any(GetProductsByIdsQuery.class));
+    }
+
+    @Test
+    void searchProducts_GivenText_ShouldReturnOkAndRankedProducts() throws Exception {
+        // Arrange
+        ProductSummary product = new ProductSummary(1L, "Brake pads", "Ceramic pads", "image-1", 50.0, new Date());
+        when(productQueryService.handle(new SearchProductsQuery("brake", 0, 20))).thenReturn(new ProductSearchPage(List.of(product), 1));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products/search")
+                .param("q", "brake")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // Assert
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Brake pads"));
+    }
+
+    @Test
+    void searchProducts_GivenBlankText_ShouldReturnBadRequest() throws Exception {
+        // Act
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products/search")
+                .param("q", " ")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // Assert
+        resultActions.andExpect(status().isBadRequest());
+        verify(productQueryService, never()).handle(any(SearchProductsQuery.class));
     }
 
     @Test
@@ -191,4 +299,72 @@ class ProductsControllerTest {
                 .andExpect(content().string("Product deleted successfully"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void deleteProducts_GivenKnownAndUnknownIds_ShouldReturnDeletedAndNotFoundCounts() throws Exception {
+        // Arrange
+        when(productCommandService.handle(new DeleteProductsCommand(Set.of(1L, 2L, 3L)))).thenReturn(2);
+
+        // Act
+        ResultActions result = mockMvc.perform(delete("/api/v1/products").param("ids", "1,2,3"));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.notFound").value(1));
+    }
+
+    @Test
+    void deleteProducts_GivenTooManyIds_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        String ids = LongStream.rangeClosed(1, DeleteProductsCommand.MAX_IDS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // Act
+        ResultActions result = mockMvc.perform(delete("/api/v1/products").param("ids", ids));
+
+        // Assert
+        result.andExpect(status().isBadRequest());
+        verify(productCommandService, never()).handle(any(DeleteProductsCommand.class));
+    }
+
+    @Test
+    void importProducts_GivenNdjsonCatalog_ShouldImportItsChunksAndReturnTheReport() throws Exception {
+        // Arrange
+        String body = """
+                {"title":"Brake Pads","description":"Front","image":"brake.png","price":50.0}
+                {"title":"Air Filter","description":"Engine","image":"filter.png","price":20.0}
+                not json
+                """;
+
+        var chunks = new ArrayList<ProductImportChunk>();
+        when(productImportCommandService.handle(any(ImportProductsCommand.class))).thenAnswer(invocation -> {
+            ImportProductsCommand command = invocation.getArgument(0);
+            command.chunks().forEachRemaining(chunks::add);
+            return new ImportedProducts(1, 1, 1, 5, 600.0, List.of(
+                    new ProductImportError(3, null, "Malformed JSON"),
+                    new ProductImportError(2, "Air Filter", "Product with same title already exists")));
+        });
+
+        // Act
+        ResultActions result = mockMvc.perform(post("/api/v1/products/import")
+                .contentType(ProductImportReader.NDJSON_VALUE)
+                .content(body));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rowsPerSecond").value(600.0))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[1].title").value("Air Filter"));
+        assertEquals(1, chunks.size());
+        assertEquals(List.of(
+                new CreateProductCommand("Brake Pads", "Front", "brake.png", 50.0),
+                new CreateProductCommand("Air Filter", "Engine", "filter.png", 20.0)), chunks.get(0).commands());
+        assertEquals(3L, chunks.get(0).errors().get(0).line());
+        verify(productCommandService, never()).handle(any(CreateProductCommand.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.thecoders.cartunnbackend.product.interfaces.rest.transform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.product.domain.model.commands.CreateProductCommand;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportChunk;
+import com.thecoders.cartunnbackend.product.domain.model.valueobjects.ProductImportError;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductImportReaderTest {
+
+    @Test
+    void next_GivenValidAndInvalidLines_ShouldReturnCommandsAndErrorsByLine() throws IOException {
+        // Arrange
+        var body = """
+                {"title":"Brake Pads","description":"Front","image":"brake.png","price":50.0}
+
+                {"title":"Air Filter","price":
+                {"description":"No title","price":10.0}
+                {"title":"brake pads","price":40.0}
+                {"title":"Spark Plug","price":-1}
+                """;
+
+        // Act
+        ProductImportChunk chunk;
+        try (var reader = reader(body, 10)) {
+            chunk = reader.next();
+            assertFalse(reader.hasNext());
+        }
+
+        // Assert
+        assertEquals(List.of(new CreateProductCommand("Brake Pads", "Front", "brake.png", 50.0)), chunk.commands());
+        assertEquals(1L, chunk.rows().get(0).line());
+        assertEquals(List.of(3L, 4L, 5L, 6L), chunk.errors().stream().map(ProductImportError::line).toList());
+        assertTrue(chunk.errors().get(0).message().startsWith("Malformed JSON"));
+        assertEquals("Title is required", chunk.errors().get(1).message());
+        assertEquals("Title repeats an earlier row", chunk.errors().get(2).message());
+        assertEquals("Price is required and must not be negative", chunk.errors().get(3).message());
+    }
+
+    @Test
+    void next_GivenMoreLinesThanChunkSize_ShouldSplitIntoChunks() throws IOException {
+        // Arrange
+        var body = """
+                {"title":"Product 1","price":1.0}
+                {"title":"Product 2","price":2.0}
+                {"title":"Product 3","price":3.0}
+                """;
+
+        try (var reader = reader(body, 2)) {
+            // Act
+            var first = reader.next();
+            var second = reader.next();
+
+            // Assert
+            assertEquals(2, first.rows().size());
+            assertEquals(1, second.rows().size());
+            assertEquals(3L, second.rows().get(0).line());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    private static ProductImportReader reader(String body, int chunkSize) {
+        return new ProductImportReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), new ObjectMapper(), chunkSize);
+    }
+}
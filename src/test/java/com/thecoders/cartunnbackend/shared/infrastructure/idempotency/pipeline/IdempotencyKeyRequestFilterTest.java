@@ -0,0 +1,179 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.idempotency.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotencyRecord;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.model.IdempotentResponse;
+import com.thecoders.cartunnbackend.shared.infrastructure.idempotency.services.IdempotencyKeyStore;
+import com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.repositories.IdempotencyRecordRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class IdempotencyKeyRequestFilterTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyKeyRequestFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(idempotencyRecordRepository.findByPrincipalAndIdempotencyKey(anyString(), anyString())).thenReturn(Optional.empty());
+        var store = new IdempotencyKeyStore(idempotencyRecordRepository, Duration.ofHours(24), 100);
+        filter = new IdempotencyKeyRequestFilter(store, new ObjectMapper(), Duration.ofSeconds(5));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_GivenRepeatedKey_ShouldReplayStoredResponseWithoutExecutingAgain() throws Exception {
+        // Act
+        var first = post("key-1", "{\"total\":10}", createdChain());
+        var second = post("key-1", "{\"total\":10}", createdChain());
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(HttpServletResponse.SC_CREATED, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyKeyRequestFilter.IDEMPOTENT_REPLAYED_HEADER));
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void doFilter_GivenKeyReusedWithDifferentBody_ShouldReturnUnprocessableEntity() throws Exception {
+        // Arrange
+        post("key-1", "{\"total\":10}", createdChain());
+
+        // Act
+        var response = post("key-1", "{\"total\":20}", createdChain());
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    void doFilter_GivenKeyStoredByAnotherInstance_ShouldReplayItFromRepository() throws Exception {
+        // Arrange
+        post("key-1", "{\"total\":10}", createdChain());
+        var stored = new IdempotencyRecord("anonymous", "key-2", new IdempotentResponse(
+                storedFingerprint(), 201, "application/json", "{\"id\":1}".getBytes(StandardCharsets.UTF_8),
+                Instant.now().plusSeconds(60)), Instant.now().plusSeconds(60));
+        when(idempotencyRecordRepository.findByPrincipalAndIdempotencyKey("anonymous", "key-2")).thenReturn(Optional.of(stored));
+
+        // Act
+        var response = post("key-2", "{\"total\":10}", createdChain());
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_GivenServerError_ShouldNotStoreResponse() throws Exception {
+        // Arrange
+        FilterChain failingChain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        };
+
+        // Act
+        post("key-1", "{}", failingChain);
+        post("key-1", "{}", failingChain);
+
+        // Assert
+        assertEquals(2, executions.get());
+        verify(idempotencyRecordRepository, never()).save(any());
+    }
+
+    @Test
+    void doFilter_GivenConcurrentRequestsWithSameKey_ShouldExecuteOnce() throws Exception {
+        // Arrange
+        var started = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            started.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            createdChain().doFilter(request, response);
+        };
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            var first = executor.submit(() -> post("key-1", "{}", slowChain));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            var second = executor.submit(() -> post("key-1", "{}", slowChain));
+            Thread.sleep(100);
+            proceed.countDown();
+
+            // Assert
+            assertEquals(HttpServletResponse.SC_CREATED, first.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(HttpServletResponse.SC_CREATED, second.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doFilter_GivenNoKey_ShouldExecuteEveryRequest() throws Exception {
+        // Act
+        post(null, "{}", createdChain());
+        post(null, "{}", createdChain());
+
+        // Assert
+        assertEquals(2, executions.get());
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    private FilterChain createdChain() {
+        return (request, response) -> {
+            var id = executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(HttpServletResponse.SC_CREATED);
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"id\":" + id + "}");
+        };
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/carts");
+        if (key != null) request.addHeader(IdempotencyKeyRequestFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private String storedFingerprint() {
+        var captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).save(captor.capture());
+        return captor.getValue().getRequestFingerprint();
+    }
+}
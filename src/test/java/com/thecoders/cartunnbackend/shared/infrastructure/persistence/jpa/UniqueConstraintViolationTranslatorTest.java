@@ -0,0 +1,63 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa;
+
+import com.thecoders.cartunnbackend.shared.domain.exceptions.ResourceConflictException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueConstraintViolationTranslatorTest {
+
+    @Test
+    void translate_GivenViolationOfTableQualifiedConstraint_ShouldReturnConflict() {
+        // Arrange
+        var exception = violationOf("products.UK_PRODUCTS_TITLE");
+
+        // Act
+        RuntimeException result = UniqueConstraintViolationTranslator.translate(exception, "uk_products_title", "Product with same title already exists",
+                "Error while saving product");
+
+        // Assert
+        assertInstanceOf(ResourceConflictException.class, result);
+        assertEquals("Product with same title already exists", result.getMessage());
+        assertSame(exception, result.getCause());
+    }
+
+    @Test
+    void translate_GivenViolationOfAnotherConstraint_ShouldReturnBadRequest() {
+        // Arrange
+        var exception = violationOf("fk_carts_payment_id");
+
+        // Act
+        RuntimeException result = UniqueConstraintViolationTranslator.translate(exception, "uk_products_title", "Product with same title already exists",
+                "Error while saving product");
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, result);
+        assertEquals("Error while saving product", result.getMessage());
+        assertSame(exception, result.getCause());
+    }
+
+    @Test
+    void translate_GivenViolationWithoutConstraintName_ShouldReturnBadRequest() {
+        // Arrange
+        var exception = new DataIntegrityViolationException("Column 'title' cannot be null");
+
+        // Act
+        RuntimeException result = UniqueConstraintViolationTranslator.translate(exception, "uk_products_title", "Product with same title already exists",
+                "Error while saving product");
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, result);
+        assertEquals("Error while saving product", result.getMessage());
+        assertSame(exception, result.getCause());
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        var cause = new ConstraintViolationException("could not execute statement", new SQLException("Duplicate entry", "23000", 1062), constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
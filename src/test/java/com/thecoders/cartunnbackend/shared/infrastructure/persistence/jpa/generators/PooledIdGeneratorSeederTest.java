@@ -0,0 +1,75 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledIdGeneratorSeederTest {
+    private JdbcTemplate jdbcTemplate;
+    private PooledIdGeneratorSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table id_generators (sequence_name varchar(255) primary key, next_val bigint)");
+        jdbcTemplate.execute("create table products (id bigint primary key)");
+        seeder = new PooledIdGeneratorSeeder(null, jdbcTemplate);
+    }
+
+    @Test
+    void seed_GivenMissingSegmentAndExistingRows_ShouldStartPastHighestId() {
+        // Arrange
+        jdbcTemplate.update("insert into products (id) values (3), (41)");
+
+        // Act
+        seeder.seed("products", "products", "id");
+
+        // Assert
+        assertEquals(42L, nextValueOf("products"));
+    }
+
+    @Test
+    void seed_GivenMissingSegmentAndEmptyTable_ShouldStartAtOne() {
+        // Act
+        seeder.seed("products", "products", "id");
+
+        // Assert
+        assertEquals(1L, nextValueOf("products"));
+    }
+
+    @Test
+    void seed_GivenSegmentBehindHighestId_ShouldRaiseIt() {
+        // Arrange
+        jdbcTemplate.update("insert into products (id) values (120)");
+        jdbcTemplate.update("insert into id_generators (sequence_name, next_val) values ('products', 1)");
+
+        // Act
+        seeder.seed("products", "products", "id");
+
+        // Assert
+        assertEquals(121L, nextValueOf("products"));
+    }
+
+    @Test
+    void seed_GivenSegmentAheadOfHighestId_ShouldLeaveItUntouched() {
+        // Arrange
+        jdbcTemplate.update("insert into products (id) values (120)");
+        jdbcTemplate.update("insert into id_generators (sequence_name, next_val) values ('products', 151)");
+
+        // Act
+        seeder.seed("products", "products", "id");
+
+        // Assert
+        assertEquals(151L, nextValueOf("products"));
+    }
+
+    private Long nextValueOf(String segment) {
+        return jdbcTemplate.queryForObject("select next_val from id_generators where sequence_name = ?", Long.class, segment);
+    }
+}
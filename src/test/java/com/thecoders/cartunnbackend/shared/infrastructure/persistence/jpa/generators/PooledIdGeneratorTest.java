@@ -0,0 +1,73 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.persistence.jpa.generators;
+
+import com.thecoders.cartunnbackend.iam.domain.model.entities.Role;
+import com.thecoders.cartunnbackend.iam.domain.model.valueobjects.Roles;
+import com.thecoders.cartunnbackend.product.domain.model.aggregates.Product;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pooled-ids;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PooledIdGeneratorTest {
+    private static final int PRODUCT_COUNT = PooledIdGenerator.ALLOCATION_SIZE + 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void persist_GivenMoreEntitiesThanOneBlock_ShouldAssignConsecutiveIdsFromPerTableSegments() {
+        // Act
+        var products = persistProducts();
+        var role = new Role(Roles.ROLE_STAFF);
+        entityManager.persist(role);
+        entityManager.flush();
+
+        // Assert
+        var firstId = products.get(0).getId();
+        for (int i = 0; i < PRODUCT_COUNT; i++) assertEquals(firstId + i, products.get(i).getId());
+        assertNotNull(role.getId());
+        assertEquals(2L, entityManager.createNativeQuery("select count(*) from " + PooledIdGenerator.TABLE
+                + " where " + PooledIdGenerator.SEGMENT_COLUMN + " in ('products', 'roles')").getSingleResult());
+    }
+
+    @Test
+    void flush_GivenPersistedEntities_ShouldSendInsertsInJdbcBatches() {
+        // Arrange
+        var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        persistProducts();
+        statistics.clear();
+
+        // Act
+        entityManager.flush();
+
+        // Assert
+        assertEquals(PRODUCT_COUNT, statistics.getEntityInsertCount());
+        // unbatched, every insert prepares its own statement
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private ArrayList<Product> persistProducts() {
+        var products = new ArrayList<Product>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            var product = new Product("Product " + i, "Description", "image.png", 10.0);
+            product.setCreatedAt(new Date());
+            product.setUpdatedAt(new Date());
+            entityManager.persist(product);
+            products.add(product);
+        }
+        return products;
+    }
+}
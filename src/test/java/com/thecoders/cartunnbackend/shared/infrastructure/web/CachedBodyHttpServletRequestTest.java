@@ -0,0 +1,83 @@
+package com.thecoders.cartunnbackend.shared.infrastructure.web;
+
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedBodyHttpServletRequestTest {
+
+    @Test
+    void setReadListener_GivenCachedBody_ShouldDeliverItAndSignalCompletion() throws IOException {
+        // Arrange
+        var request = new MockHttpServletRequest();
+        request.setContent("{\"total\":10}".getBytes(StandardCharsets.UTF_8));
+        var inputStream = new CachedBodyHttpServletRequest(request).getInputStream();
+        var received = new ByteArrayOutputStream();
+        var events = new ArrayList<String>();
+
+        // Act
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                var buffer = new byte[4];
+                while (inputStream.isReady() && !inputStream.isFinished()) {
+                    received.write(buffer, 0, inputStream.read(buffer));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                events.add("error");
+            }
+        });
+
+        // Assert
+        assertEquals("{\"total\":10}", received.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of("data", "done"), events);
+    }
+
+    @Test
+    void setReadListener_GivenListenerFailing_ShouldReportError() throws IOException {
+        // Arrange
+        var request = new MockHttpServletRequest();
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+        var inputStream = new CachedBodyHttpServletRequest(request).getInputStream();
+        var errors = new ArrayList<Throwable>();
+
+        // Act
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw new IOException("client went away");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                fail("body was not read");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+        });
+
+        // Assert
+        assertEquals(1, errors.size());
+        assertEquals("client went away", errors.get(0).getMessage());
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,8 +44,7 @@ class TunningTaskCommandServiceImplTest {
                 LocalDate.now(),
                 "status");
 
-        when(tunningTaskRepository.existsByModifiedPart(command.modifiedPart())).thenReturn(false);
-        when(tunningTaskRepository.save(any(TunningTask.class))).thenAnswer(invocation -> {
+        when(tunningTaskRepository.saveAndFlush(any(TunningTask.class))).thenAnswer(invocation -> {
             var savedTunningTask = invocation.getArgument(0, TunningTask.class);
 
             Field idField = AuditableAbstractAggregateRoot.class.getDeclaredField("id");
@@ -58,7 +58,8 @@ class TunningTaskCommandServiceImplTest {
         var result = tunningTaskCommandService.handle(command);
 
         // Assert
-        assertEquals(expectedId, result);
+        assertTrue(result.isPresent());
+        assertEquals(expectedId, result.get().getId());
     }
 
     @Test
@@ -74,9 +75,8 @@ class TunningTaskCommandServiceImplTest {
                 LocalDate.now(),
                 "last status");
 
-        when(tunningTaskRepository.existsByModifiedPartAndIdIsNot(command.modifiedPart(), command.id())).thenReturn(false);
         when(tunningTaskRepository.findById(command.id())).thenReturn(Optional.of(tunningTask));
-        when(tunningTaskRepository.save(tunningTask)).thenReturn(tunningTask);
+        when(tunningTaskRepository.saveAndFlush(tunningTask)).thenReturn(tunningTask);
 
         // Act
         Optional<TunningTask> updatedTunningTask = tunningTaskCommandService.handle(command);
@@ -94,12 +94,13 @@ class TunningTaskCommandServiceImplTest {
         Long tunningTaskId = 1L;
         var command = new DeleteTunningTaskCommand(tunningTaskId);
 
-        when(tunningTaskRepository.existsById(command.tunningTaskId())).thenReturn(true);
+        when(tunningTaskRepository.deleteWhereId(command.tunningTaskId())).thenReturn(1);
 
         // Act
         tunningTaskCommandService.handle(command);
 
         // Assert
-        verify(tunningTaskRepository).deleteById(tunningTaskId);
+        verify(tunningTaskRepository).deleteWhereId(tunningTaskId);
+        verify(tunningTaskRepository, never()).existsById(any());
     }
 }
\ No newline at end of file
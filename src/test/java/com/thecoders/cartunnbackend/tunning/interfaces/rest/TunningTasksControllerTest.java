@@ -70,8 +70,7 @@ class TunningTasksControllerTest {
             mockedAssembler.when(() -> CreateTunningTaskCommandFromResourceAssembler.toCommandFromResource(createTunningTaskResource)).thenReturn(createTunningTaskCommand);
             mockedAssembler2.when(() -> TunningTaskResourceFromEntityAssembler.toResourceFromEntity(tunningTask)).thenReturn(tunningTaskResource);
 
-            when(tunningTaskCommandService.handle(createTunningTaskCommand)).thenReturn(tunningTaskId);
-            when(tunningTaskQueryService.handle(any(GetTunningTaskByIdQuery.class))).thenReturn(Optional.of(tunningTask));
+            when(tunningTaskCommandService.handle(createTunningTaskCommand)).thenReturn(Optional.of(tunningTask));
 
             // Act
             ResultActions result = mockMvc.perform(post("/api/v1/tunning-task")
@@ -84,6 +83,7 @@ class TunningTasksControllerTest {
                     .andExpect(jsonPath("$.modifiedPart").value("Modified Part"))
                     .andExpect(jsonPath("$.date").value(LocalDate.now().toString()))
                     .andExpect(jsonPath("$.status").value("In Progress"));
+            verify(tunningTaskQueryService, never()).handle(any(GetTunningTaskByIdQuery.class));
         }
     }
 